@@ -0,0 +1,110 @@
+package com.inventory.benchmark;
+
+import com.inventory.entity.Ingredient;
+import com.inventory.entity.Product;
+import com.inventory.entity.ProductRecipe;
+import com.inventory.repository.IngredientPrice;
+import com.inventory.repository.IngredientRepository;
+import com.inventory.repository.IngredientStock;
+import com.inventory.repository.ProductRecipeRepository;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.ProductSummary;
+import com.inventory.repository.RecipeLine;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+final class CatalogFixture {
+
+    final List<Ingredient> ingredients = new ArrayList<>();
+    final List<Product> products = new ArrayList<>();
+
+    CatalogFixture(int ingredientCount, int productCount, int recipeSize, long seed) {
+        Random random = new Random(seed);
+        for (long id = 1; id <= ingredientCount; id++) {
+            Ingredient ingredient = new Ingredient();
+            ingredient.setId(id);
+            ingredient.setName("Ingrediente " + id);
+            ingredient.setUnit(id % 2 == 0 ? "kg" : "l");
+            ingredient.setCostPrice(0.1 + random.nextDouble() * 20);
+            ingredient.setCurrentStock(random.nextDouble() * 1000);
+            ingredients.add(ingredient);
+        }
+        long recipeId = 1;
+        for (long id = 1; id <= productCount; id++) {
+            Product product = new Product();
+            product.setId(id);
+            product.setName("Producto " + id);
+            product.setDescription("Descripción del producto " + id);
+            product.setPrice(5 + random.nextDouble() * 50);
+            product.setStock(random.nextInt(100));
+            Set<Integer> used = new HashSet<>();
+            while (used.size() < Math.min(recipeSize, ingredientCount)) {
+                int index = random.nextInt(ingredientCount);
+                if (used.add(index)) {
+                    product.getRecipes().add(new ProductRecipe(recipeId++, product, ingredients.get(index),
+                            0.01 + random.nextDouble() * 2));
+                }
+            }
+            products.add(product);
+        }
+    }
+
+    IngredientRepository ingredientRepository() {
+        List<IngredientPrice> prices = ingredients.stream()
+                .<IngredientPrice>map(i -> new Price(i.getId(), i.getCostPrice()))
+                .toList();
+        List<IngredientStock> stocks = ingredients.stream()
+                .<IngredientStock>map(i -> new Stock(i.getId(), i.getCurrentStock()))
+                .toList();
+        return stub(IngredientRepository.class, Map.of("findAllPrices", prices, "findAllStocks", stocks,
+                "findAll", ingredients));
+    }
+
+    ProductRepository productRepository() {
+        List<ProductSummary> summaries = products.stream()
+                .<ProductSummary>map(p -> new Summary(p.getId(), p.getName(), p.getPrice()))
+                .toList();
+        return stub(ProductRepository.class, Map.of("findAllSummaries", summaries, "findAll", products));
+    }
+
+    ProductRecipeRepository productRecipeRepository() {
+        List<RecipeLine> lines = products.stream()
+                .flatMap(p -> p.getRecipes().stream())
+                .<RecipeLine>map(r -> new Line(r.getProduct().getId(), r.getIngredient().getId(), r.getQuantity()))
+                .toList();
+        return stub(ProductRecipeRepository.class, Map.of("findAllLines", lines));
+    }
+
+    private static <T> T stub(Class<T> type, Map<String, Object> results) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            if (results.containsKey(method.getName())) {
+                return results.get(method.getName());
+            }
+            return switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(self);
+                case "equals" -> self == args[0];
+                case "toString" -> type.getSimpleName() + " stub";
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        });
+        return type.cast(proxy);
+    }
+
+    private record Price(Long getId, Double getCostPrice) implements IngredientPrice {
+    }
+
+    private record Stock(Long getId, Double getCurrentStock) implements IngredientStock {
+    }
+
+    private record Summary(Long getId, String getName, Double getPrice) implements ProductSummary {
+    }
+
+    private record Line(Long getProductId, Long getIngredientId, Double getQuantity) implements RecipeLine {
+    }
+}
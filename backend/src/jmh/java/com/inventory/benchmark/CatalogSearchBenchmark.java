@@ -0,0 +1,87 @@
+package com.inventory.benchmark;
+
+import com.inventory.dto.SearchResult;
+import com.inventory.entity.Product;
+import com.inventory.event.ProductChangedEvent;
+import com.inventory.service.CatalogSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CatalogSearchBenchmark {
+
+    @Param("2000")
+    private int ingredients;
+
+    @Param("100000")
+    private int products;
+
+    private CatalogFixture fixture;
+    private CatalogSearchIndex searchIndex;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        fixture = new CatalogFixture(ingredients, products, 1, 42);
+        searchIndex = new CatalogSearchIndex(fixture.productRepository(), fixture.ingredientRepository());
+        searchIndex.search("producto", null, 20);
+    }
+
+    @Benchmark
+    public List<SearchResult> searchExact() {
+        return searchIndex.search("producto " + nextId(), SearchResult.Type.PRODUCT, 20);
+    }
+
+    @Benchmark
+    public List<SearchResult> searchPrefix() {
+        return searchIndex.search("ingred " + nextId() / 10, null, 20);
+    }
+
+    @Benchmark
+    public List<SearchResult> searchFuzzy() {
+        return searchIndex.search("prodcto " + nextId(), null, 20);
+    }
+
+    @Benchmark
+    public List<SearchResult> searchBroad() {
+        return searchIndex.search("descripcion", null, 20);
+    }
+
+    @Benchmark
+    public List<SearchResult> productRename() {
+        Product product = fixture.products.get(nextId() - 1);
+        searchIndex.onProductChanged(new ProductChangedEvent(product.getId(), product.getName(),
+                product.getDescription(), product.getPrice(), Map.of(), false));
+        return searchIndex.search(product.getName(), SearchResult.Type.PRODUCT, 1);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<SearchResult> fullRebuild() {
+        searchIndex.scheduleRebuild().join();
+        return searchIndex.search("producto 1", null, 1);
+    }
+
+    private int nextId() {
+        next = next % products + 1;
+        return next;
+    }
+}
@@ -0,0 +1,81 @@
+package com.inventory.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.dto.CatalogResponse;
+import com.inventory.dto.IngredientReference;
+import com.inventory.dto.ProductListItem;
+import com.inventory.dto.RecipeLineView;
+import com.inventory.entity.Ingredient;
+import com.inventory.entity.Product;
+import com.inventory.entity.ProductRecipe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CatalogSerializationBenchmark {
+
+    @Param("1000")
+    private int products;
+
+    private ObjectMapper objectMapper;
+    private List<Product> entities;
+    private CatalogResponse catalog;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        CatalogFixture fixture = new CatalogFixture(500, products, 8, 42);
+        entities = fixture.products;
+        entities.forEach(product -> {
+            product.setCalculatedCost(product.getPrice() / 3);
+            product.setProfitMargin(product.getPrice() - product.getCalculatedCost());
+        });
+        catalog = toCatalog(entities);
+    }
+
+    @Benchmark
+    public byte[] entityList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(entities);
+    }
+
+    @Benchmark
+    public byte[] catalogView() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(catalog);
+    }
+
+    private static CatalogResponse toCatalog(List<Product> products) {
+        Map<Long, IngredientReference> ingredients = new LinkedHashMap<>();
+        List<ProductListItem> items = products.stream().map(product -> {
+            List<RecipeLineView> lines = product.getRecipes().stream().map((ProductRecipe recipe) -> {
+                Ingredient ingredient = recipe.getIngredient();
+                ingredients.computeIfAbsent(ingredient.getId(), id -> new IngredientReference(
+                        id, ingredient.getName(), ingredient.getUnit(), ingredient.getCostPrice()));
+                return new RecipeLineView(ingredient.getId(), recipe.getQuantity());
+            }).toList();
+            return new ProductListItem(product.getId(), product.getName(), product.getDescription(),
+                    product.getPrice(), product.getStock(), product.getCalculatedCost(), product.getProfitMargin(), lines);
+        }).toList();
+        return new CatalogResponse(items, List.copyOf(ingredients.values()));
+    }
+}
@@ -0,0 +1,97 @@
+package com.inventory.benchmark;
+
+import com.inventory.dto.CostSimulation;
+import com.inventory.entity.Ingredient;
+import com.inventory.event.CatalogResetEvent;
+import com.inventory.event.IngredientChangedEvent;
+import com.inventory.service.ProductCapacityService;
+import com.inventory.service.ProductCostEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CostEngineBenchmark {
+
+    @Param("2000")
+    private int ingredients;
+
+    @Param("10000")
+    private int products;
+
+    @Param("8")
+    private int recipeSize;
+
+    private CatalogFixture fixture;
+    private ProductCostEngine costEngine;
+    private ProductCapacityService capacityService;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        fixture = new CatalogFixture(ingredients, products, recipeSize, 42);
+        costEngine = new ProductCostEngine(fixture.ingredientRepository(), fixture.productRecipeRepository(),
+                fixture.productRepository());
+        capacityService = new ProductCapacityService(fixture.ingredientRepository(), costEngine);
+        capacityService.getCapacities();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Double costFullLoad() {
+        costEngine.onCatalogReset(new CatalogResetEvent());
+        return costEngine.getCost(1L);
+    }
+
+    @Benchmark
+    public Double costIngredientPriceChange() {
+        Ingredient ingredient = nextIngredient();
+        ingredient.setCostPrice(ingredient.getCostPrice() * (next % 2 == 0 ? 1.01 : 0.99));
+        costEngine.onIngredientChanged(IngredientChangedEvent.of(ingredient));
+        return costEngine.getCost(1L);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<CostSimulation> costSimulation() {
+        Ingredient ingredient = nextIngredient();
+        return costEngine.simulate(Map.of(ingredient.getId(), ingredient.getCostPrice() * 1.1), Map.of());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int capacityFullLoad() {
+        capacityService.onCatalogReset(new CatalogResetEvent());
+        return capacityService.getCapacities().size();
+    }
+
+    @Benchmark
+    public Object capacityStockChange() {
+        Ingredient ingredient = nextIngredient();
+        ingredient.setCurrentStock(ingredient.getCurrentStock() + (next % 2 == 0 ? 1 : -1));
+        capacityService.onIngredientChanged(IngredientChangedEvent.of(ingredient));
+        return capacityService.getCapacity(1L);
+    }
+
+    private Ingredient nextIngredient() {
+        next = (next + 1) % fixture.ingredients.size();
+        return fixture.ingredients.get(next);
+    }
+}
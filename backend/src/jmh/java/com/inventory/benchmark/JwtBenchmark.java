@@ -0,0 +1,64 @@
+package com.inventory.benchmark;
+
+import com.inventory.security.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtBenchmark {
+
+    private static final List<String> ROLES = List.of("ROLE_USER", "ROLE_ADMIN");
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedProvider = provider(10000);
+        uncachedProvider = provider(0);
+        token = cachedProvider.generateToken("admin", ROLES, 0);
+    }
+
+    @Benchmark
+    public String generate() {
+        return cachedProvider.generateToken("admin", ROLES, 0);
+    }
+
+    @Benchmark
+    public boolean validateCached() {
+        return cachedProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateUncached() {
+        return uncachedProvider.validateToken(token);
+    }
+
+    private static JwtTokenProvider provider(int cacheMaxSize) {
+        JwtTokenProvider provider = new JwtTokenProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(provider, "jwtSecret", "benchmarkSecretKey1234567890123456789012345");
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", 3600000L);
+        ReflectionTestUtils.setField(provider, "cacheMaxSize", cacheMaxSize);
+        ReflectionTestUtils.invokeMethod(provider, "init");
+        return provider;
+    }
+}
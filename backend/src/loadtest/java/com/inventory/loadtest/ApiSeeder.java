@@ -0,0 +1,143 @@
+package com.inventory.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+final class ApiSeeder {
+
+    private static final String PREFIX = "Carga ";
+    private static final String PASSWORD = "loadtest123";
+    private static final int BATCH_SIZE = 1000;
+    private static final int THREADS = 16;
+
+    private final ApiClient client;
+    private final LoadTestSettings settings;
+    private final Random random;
+
+    ApiSeeder(ApiClient client, LoadTestSettings settings) {
+        this.client = client;
+        this.settings = settings;
+        this.random = new Random(settings.seed());
+    }
+
+    SeededCatalog seed() throws Exception {
+        long start = System.currentTimeMillis();
+        List<SeededCatalog.Ingredient> ingredients = seedIngredients();
+        System.out.printf("Ingredientes: %d (%d ms)%n", ingredients.size(), System.currentTimeMillis() - start);
+
+        start = System.currentTimeMillis();
+        List<SeededCatalog.RecipePair> pairs = Collections.synchronizedList(new ArrayList<>());
+        List<Long> productIds = seedProducts(ingredients, pairs);
+        System.out.printf("Productos: %d (%d ms)%n", productIds.size(), System.currentTimeMillis() - start);
+
+        start = System.currentTimeMillis();
+        List<String> usernames = seedUsers();
+        System.out.printf("Usuarios: %d (%d ms)%n", usernames.size(), System.currentTimeMillis() - start);
+
+        return new SeededCatalog(ingredients, productIds, List.copyOf(pairs), usernames, PASSWORD);
+    }
+
+    private List<SeededCatalog.Ingredient> seedIngredients() throws Exception {
+        List<Map<String, Object>> batch = new ArrayList<>();
+        for (int i = 1; i <= settings.ingredients(); i++) {
+            batch.add(Map.of(
+                    "name", PREFIX + i,
+                    "costPrice", round(0.1 + random.nextDouble() * 20),
+                    "currentStock", round(100 + random.nextDouble() * 10000),
+                    "unit", i % 3 == 0 ? "l" : "kg"));
+            if (batch.size() == BATCH_SIZE || i == settings.ingredients()) {
+                client.sendForJson("POST", "/api/ingredients/bulk", batch, null);
+                batch = new ArrayList<>();
+            }
+        }
+
+        List<SeededCatalog.Ingredient> ingredients = new ArrayList<>();
+        for (JsonNode node : client.sendForJson("GET", "/api/ingredients", null, null)) {
+            if (node.path("name").asText().startsWith(PREFIX)) {
+                ingredients.add(new SeededCatalog.Ingredient(node.path("id").asLong(), node.path("name").asText(),
+                        node.path("unit").asText(), node.path("costPrice").asDouble(),
+                        node.path("currentStock").asDouble()));
+            }
+        }
+        if (ingredients.isEmpty()) {
+            throw new IllegalStateException("No se crearon ingredientes de carga");
+        }
+        return ingredients;
+    }
+
+    private List<Long> seedProducts(List<SeededCatalog.Ingredient> ingredients,
+                                    List<SeededCatalog.RecipePair> pairs) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 1; i <= settings.products(); i++) {
+                Map<String, Object> product = product(i, ingredients);
+                futures.add(executor.submit(() -> {
+                    JsonNode saved = client.sendForJson("POST", "/api/products", product, null);
+                    long productId = saved.path("id").asLong();
+                    for (JsonNode recipe : saved.path("recipes")) {
+                        pairs.add(new SeededCatalog.RecipePair(productId, recipe.path("ingredient").path("id").asLong()));
+                    }
+                    return productId;
+                }));
+            }
+            List<Long> productIds = new ArrayList<>();
+            for (Future<Long> future : futures) {
+                productIds.add(future.get());
+            }
+            return productIds;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Map<String, Object> product(int index, List<SeededCatalog.Ingredient> ingredients) {
+        Set<Long> ingredientIds = new LinkedHashSet<>();
+        int recipeSize = Math.min(1 + random.nextInt(settings.recipeSize() * 2), ingredients.size());
+        while (ingredientIds.size() < recipeSize) {
+            ingredientIds.add(ingredients.get(random.nextInt(ingredients.size())).id());
+        }
+        List<Map<String, Object>> recipes = new ArrayList<>();
+        for (Long ingredientId : ingredientIds) {
+            recipes.add(Map.of("ingredient", Map.of("id", ingredientId), "quantity", round(0.01 + random.nextDouble() * 2)));
+        }
+        Map<String, Object> product = new HashMap<>();
+        product.put("name", PREFIX + "producto " + index);
+        product.put("description", "Producto generado para la prueba de carga " + index);
+        product.put("price", round(5 + random.nextDouble() * 50));
+        product.put("stock", random.nextInt(100));
+        product.put("recipes", recipes);
+        return product;
+    }
+
+    private List<String> seedUsers() throws Exception {
+        List<String> usernames = new ArrayList<>();
+        for (int i = 1; i <= settings.users(); i++) {
+            String username = "carga" + i;
+            try {
+                client.sendForJson("POST", "/api/auth/register",
+                        Map.of("username", username, "email", username + "@carga.local", "password", PASSWORD), null);
+            } catch (IOException e) {
+                client.sendForJson("POST", "/api/auth/login", Map.of("username", username, "password", PASSWORD), null);
+            }
+            usernames.add(username);
+        }
+        return usernames;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,63 @@
+package com.inventory.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+final class LatencyRecorder {
+
+    private final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+
+    void record(Operation operation, long nanos, boolean success) {
+        Samples operationSamples = samples.computeIfAbsent(operation, key -> new Samples());
+        if (success) {
+            operationSamples.add(nanos);
+        } else {
+            operationSamples.errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        other.samples.forEach((operation, otherSamples) -> {
+            Samples operationSamples = samples.computeIfAbsent(operation, key -> new Samples());
+            for (int i = 0; i < otherSamples.size; i++) {
+                operationSamples.add(otherSamples.values[i]);
+            }
+            operationSamples.errors += otherSamples.errors;
+        });
+    }
+
+    Map<Operation, Samples> samples() {
+        return samples;
+    }
+
+    long[] all() {
+        return samples.values().stream()
+                .flatMapToLong(operationSamples -> Arrays.stream(operationSamples.values, 0, operationSamples.size))
+                .toArray();
+    }
+
+    static final class Samples {
+
+        private long[] values = new long[1024];
+        private int size;
+        private long errors;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        long errors() {
+            return errors;
+        }
+    }
+}
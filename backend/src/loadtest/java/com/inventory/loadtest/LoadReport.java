@@ -0,0 +1,101 @@
+package com.inventory.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+record LoadReport(LoadTestSettings settings, Duration measured, List<Row> rows) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    static LoadReport of(LoadTestSettings settings, Duration measured, LatencyRecorder recorder) {
+        double seconds = measured.toNanos() / 1_000_000_000.0;
+        List<Row> rows = new ArrayList<>();
+        long totalErrors = 0;
+        for (Map.Entry<Operation, LatencyRecorder.Samples> entry : recorder.samples().entrySet()) {
+            rows.add(Row.of(entry.getKey().key(), entry.getValue().sorted(), entry.getValue().errors(), seconds));
+            totalErrors += entry.getValue().errors();
+        }
+        long[] all = recorder.all();
+        Arrays.sort(all);
+        rows.add(Row.of("total", all, totalErrors, seconds));
+        return new LoadReport(settings, measured, rows);
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n%d clientes, %d s medidos%n", settings.clients(), measured.toSeconds());
+        if (settings.openModel()) {
+            out.printf("Modelo abierto a %.1f req/s: cada latencia se mide desde el instante de envío previsto, "
+                    + "así que incluye la espera cuando el servidor se retrasa%n", settings.rate());
+        } else {
+            out.println("Modelo cerrado: cada cliente espera su respuesta antes de enviar la siguiente y la latencia se mide "
+                    + "desde el envío real. Un servidor lento reduce la carga en lugar de acumular espera (omisión "
+                    + "coordinada), así que los percentiles altos son optimistas; usa -Dloadtest.rate para un ritmo fijo");
+        }
+        out.printf("%-18s %9s %7s %10s %9s %9s %9s %9s %9s %9s%n",
+                "operación", "peticiones", "errores", "req/s", "media ms", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "máx ms");
+        for (Row row : rows) {
+            out.printf("%-18s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.operation(), row.requests(), row.errors(), row.throughput(), row.meanMs(),
+                    row.p50Ms(), row.p90Ms(), row.p99Ms(), row.p999Ms(), row.maxMs());
+        }
+    }
+
+    void write(Path path) throws IOException {
+        Map<String, Object> settingsJson = new LinkedHashMap<>();
+        settingsJson.put("target", settings.embedded() ? "embedded-h2" : settings.target());
+        settingsJson.put("profiles", settings.profiles());
+        settingsJson.put("clients", settings.clients());
+        settingsJson.put("model", settings.openModel() ? "open" : "closed");
+        settingsJson.put("rate", settings.openModel() ? settings.rate() : null);
+        settingsJson.put("warmupSeconds", settings.warmup().toSeconds());
+        settingsJson.put("durationSeconds", settings.duration().toSeconds());
+        settingsJson.put("ingredients", settings.ingredients());
+        settingsJson.put("products", settings.products());
+        settingsJson.put("recipeSize", settings.recipeSize());
+        settingsJson.put("users", settings.users());
+        settingsJson.put("seed", settings.seed());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        settings.mix().forEach((operation, weight) -> mix.put(operation.key(), weight));
+        settingsJson.put("mix", mix);
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("settings", settingsJson);
+        json.put("measuredSeconds", measured.toMillis() / 1000.0);
+        json.put("results", rows);
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), json);
+    }
+
+    record Row(String operation, long requests, long errors, double throughput, double meanMs,
+               double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+
+        static Row of(String operation, long[] sorted, long errors, double seconds) {
+            double mean = sorted.length == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / NANOS_PER_MILLI;
+            return new Row(operation, sorted.length, errors, (sorted.length + errors) / seconds, mean,
+                    percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), percentile(sorted, 99.9),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / NANOS_PER_MILLI);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+            return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)] / NANOS_PER_MILLI;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.inventory.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
+final class LoadRunner {
+
+    private final ApiClient client;
+    private final SeededCatalog catalog;
+    private final LoadTestSettings settings;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    LoadRunner(ApiClient client, SeededCatalog catalog, LoadTestSettings settings) {
+        this.client = client;
+        this.catalog = catalog;
+        this.settings = settings;
+        this.operations = settings.mix().keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += settings.mix().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    LoadReport run() throws Exception {
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.clients());
+        try {
+            List<Future<LatencyRecorder>> workers = new ArrayList<>();
+            for (int i = 0; i < settings.clients(); i++) {
+                int index = i;
+                workers.add(executor.submit(() -> work(index, measureFrom, end)));
+            }
+            LatencyRecorder recorder = new LatencyRecorder();
+            for (Future<LatencyRecorder> worker : workers) {
+                recorder.merge(worker.get());
+            }
+            return LoadReport.of(settings, Duration.ofNanos(end - measureFrom), recorder);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private LatencyRecorder work(int index, long measureFrom, long end) throws Exception {
+        Random random = new Random(settings.seed() + index);
+        LatencyRecorder recorder = new LatencyRecorder();
+        String username = catalog.usernames().get(index % catalog.usernames().size());
+        String token = login(username);
+
+        long interval = settings.openModel() ? (long) (1_000_000_000L * settings.clients() / settings.rate()) : 0;
+        long intended = System.nanoTime() + interval * index / settings.clients();
+        while (settings.openModel() ? intended < end : System.nanoTime() < end) {
+            long now = System.nanoTime();
+            if (settings.openModel() && now < intended) {
+                LockSupport.parkNanos(intended - now);
+                continue;
+            }
+            long sentAt = settings.openModel() ? intended : now;
+            intended += interval;
+            Operation operation = pick(random);
+            boolean success;
+            try {
+                HttpResponse<byte[]> response = execute(operation, random, username, token);
+                success = response.statusCode() < 400;
+                if (success && operation == Operation.LOGIN) {
+                    token = client.readJson(response).path("token").asText();
+                }
+            } catch (Exception e) {
+                success = false;
+            }
+            long elapsed = System.nanoTime() - sentAt;
+            if (sentAt >= measureFrom) {
+                recorder.record(operation, elapsed, success);
+            }
+        }
+        return recorder;
+    }
+
+    private String login(String username) throws Exception {
+        JsonNode response = client.sendForJson("POST", "/api/auth/login",
+                Map.of("username", username, "password", catalog.password()), null);
+        return response.path("token").asText();
+    }
+
+    private HttpResponse<byte[]> execute(Operation operation, Random random, String username, String token) throws Exception {
+        return switch (operation) {
+            case LOGIN -> client.send("POST", "/api/auth/login",
+                    Map.of("username", username, "password", catalog.password()), null);
+            case CATALOG -> client.send("GET", "/api/products/catalog", null, token);
+            case PRODUCT_PAGE -> client.send("GET", "/api/products/page?size=20&minPrice=" + random.nextInt(40), null, token);
+            case PRODUCT_GET -> client.send("GET", "/api/products/" + randomProduct(random), null, token);
+            case INGREDIENT_PAGE -> client.send("GET", "/api/ingredients/page?size=50", null, token);
+            case INGREDIENT_GET -> client.send("GET", "/api/ingredients/" + randomIngredient(random).id(), null, token);
+            case INGREDIENT_UPDATE -> {
+                SeededCatalog.Ingredient ingredient = randomIngredient(random);
+                yield client.send("PUT", "/api/ingredients/" + ingredient.id(), Map.of(
+                        "name", ingredient.name(),
+                        "unit", ingredient.unit(),
+                        "costPrice", Math.round(ingredient.costPrice() * (0.9 + random.nextDouble() * 0.2) * 100) / 100.0,
+                        "currentStock", ingredient.currentStock()), token);
+            }
+            case RECIPE_UPDATE -> {
+                SeededCatalog.RecipePair pair = catalog.recipePairs().get(random.nextInt(catalog.recipePairs().size()));
+                yield client.send("PATCH", "/api/products/" + pair.productId() + "/recipes/" + pair.ingredientId(),
+                        Map.of("quantity", Math.round((0.01 + random.nextDouble() * 2) * 100) / 100.0), token);
+            }
+            case RESTOCK -> client.send("POST", "/api/ingredients/" + randomIngredient(random).id() + "/restock",
+                    Map.of("quantity", 1 + random.nextInt(10)), token);
+        };
+    }
+
+    private Operation pick(Random random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private long randomProduct(Random random) {
+        return catalog.productIds().get(random.nextInt(catalog.productIds().size()));
+    }
+
+    private SeededCatalog.Ingredient randomIngredient(Random random) {
+        return catalog.ingredients().get(random.nextInt(catalog.ingredients().size()));
+    }
+}
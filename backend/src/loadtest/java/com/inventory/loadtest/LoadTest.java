@@ -0,0 +1,54 @@
+package com.inventory.loadtest;
+
+import com.inventory.InventoryManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ConfigurableApplicationContext context = settings.embedded() ? start(settings) : null;
+        try {
+            String baseUrl = context != null
+                    ? "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    : settings.target();
+            ApiClient client = new ApiClient(baseUrl);
+            SeededCatalog catalog = new ApiSeeder(client, settings).seed();
+            System.out.printf("Carga contra %s: %d clientes, %s, %d s de calentamiento, %d s de medición%n",
+                    baseUrl, settings.clients(),
+                    settings.openModel() ? String.format("%.1f req/s", settings.rate()) : "sin límite de ritmo",
+                    settings.warmup().toSeconds(), settings.duration().toSeconds());
+
+            LoadReport report = new LoadRunner(client, catalog, settings).run();
+            report.print(System.out);
+            report.write(settings.result());
+            System.out.println("Resultados guardados en " + settings.result().toAbsolutePath());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestSettings settings) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(InventoryManagementApplication.class);
+        if (!settings.profiles().isBlank()) {
+            builder.profiles(settings.profiles().split(","));
+        }
+        return builder.run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--security.rate-limit.ip-max-attempts=0",
+                "--security.rate-limit.username-max-attempts=0",
+                "--logging.level.com.inventory=WARN");
+    }
+}
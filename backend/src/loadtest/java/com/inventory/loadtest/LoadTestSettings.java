@@ -0,0 +1,69 @@
+package com.inventory.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+record LoadTestSettings(
+        String target,
+        String profiles,
+        int clients,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        int ingredients,
+        int products,
+        int recipeSize,
+        int users,
+        long seed,
+        Map<Operation, Integer> mix,
+        Path result) {
+
+    private static final String DEFAULT_MIX =
+            "login:2,catalog:1,productPage:20,productGet:30,ingredientPage:10,ingredientGet:20,"
+                    + "ingredientUpdate:7,recipeUpdate:5,restock:5";
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                System.getProperty("loadtest.target", ""),
+                System.getProperty("loadtest.profiles", ""),
+                Integer.getInteger("loadtest.clients", 50),
+                Double.parseDouble(System.getProperty("loadtest.rate", "0")),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10L)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60L)),
+                Integer.getInteger("loadtest.ingredients", 2000),
+                Integer.getInteger("loadtest.products", 5000),
+                Integer.getInteger("loadtest.recipe-size", 8),
+                Integer.getInteger("loadtest.users", 20),
+                Long.getLong("loadtest.seed", 42L),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Path.of(System.getProperty("loadtest.result", "target/loadtest-result.json")));
+    }
+
+    boolean embedded() {
+        return target.isBlank();
+    }
+
+    boolean openModel() {
+        return rate > 0;
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Entrada de mezcla no válida: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla de operaciones está vacía");
+        }
+        return mix;
+    }
+}
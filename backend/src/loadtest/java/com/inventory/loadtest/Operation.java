@@ -0,0 +1,32 @@
+package com.inventory.loadtest;
+
+import java.util.Arrays;
+
+enum Operation {
+    LOGIN("login"),
+    CATALOG("catalog"),
+    PRODUCT_PAGE("productPage"),
+    PRODUCT_GET("productGet"),
+    INGREDIENT_PAGE("ingredientPage"),
+    INGREDIENT_GET("ingredientGet"),
+    INGREDIENT_UPDATE("ingredientUpdate"),
+    RECIPE_UPDATE("recipeUpdate"),
+    RESTOCK("restock");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Operación desconocida: " + key));
+    }
+}
@@ -0,0 +1,17 @@
+package com.inventory.loadtest;
+
+import java.util.List;
+
+record SeededCatalog(
+        List<Ingredient> ingredients,
+        List<Long> productIds,
+        List<RecipePair> recipePairs,
+        List<String> usernames,
+        String password) {
+
+    record Ingredient(long id, String name, String unit, double costPrice, double currentStock) {
+    }
+
+    record RecipePair(long productId, long ingredientId) {
+    }
+}
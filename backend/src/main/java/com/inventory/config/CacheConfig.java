@@ -0,0 +1,28 @@
+package com.inventory.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String INGREDIENTS = "ingredients";
+    public static final String INGREDIENT = "ingredient";
+    public static final String PRODUCT = "product";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.catalog.spec}") String specification) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification(specification);
+        cacheManager.setCacheNames(List.of(INGREDIENTS, INGREDIENT, PRODUCT));
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
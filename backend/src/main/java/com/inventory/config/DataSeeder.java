@@ -1,12 +1,17 @@
 package com.inventory.config;
 
+import com.inventory.dto.CatalogGenerationRequest;
 import com.inventory.entity.Ingredient;
 import com.inventory.entity.Product;
 import com.inventory.entity.ProductRecipe;
+import com.inventory.event.CatalogResetEvent;
 import com.inventory.repository.IngredientRepository;
 import com.inventory.repository.ProductRepository;
 import com.inventory.repository.ProductRecipeRepository;
+import com.inventory.service.CatalogGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -23,16 +28,43 @@ public class DataSeeder implements CommandLineRunner {
     private final IngredientRepository ingredientRepository;
     private final ProductRepository productRepository;
     private final ProductRecipeRepository productRecipeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogGenerator catalogGenerator;
+
+    @Value("${seed.startup.ingredients:0}")
+    private int generatedIngredients;
+
+    @Value("${seed.startup.products:0}")
+    private int generatedProducts;
+
+    @Value("${seed.startup.min-recipe-size:3}")
+    private int minRecipeSize;
+
+    @Value("${seed.startup.max-recipe-size:10}")
+    private int maxRecipeSize;
+
+    @Value("${seed.startup.popularity-skew:1.0}")
+    private double popularitySkew;
+
+    @Value("${seed.startup.random-seed:42}")
+    private long randomSeed;
 
     @Override
     @Transactional
     public void run(String... args) {
+        if ((generatedIngredients > 0 || generatedProducts > 0)
+                && ingredientRepository.count() == 0 && productRepository.count() == 0) {
+            catalogGenerator.generate(new CatalogGenerationRequest(generatedIngredients, generatedProducts,
+                    minRecipeSize, maxRecipeSize, popularitySkew, randomSeed, "Sintético"));
+            return;
+        }
         if (ingredientRepository.count() == 0) {
             seedIngredients();
         }
         if (productRepository.count() == 0) {
             seedProducts();
         }
+        eventPublisher.publishEvent(new CatalogResetEvent());
     }
 
     @Transactional
@@ -78,7 +110,7 @@ public class DataSeeder implements CommandLineRunner {
         ingredientRepository.flush();
     }
 
-    private Ingredient createIngredient(String name, double costPrice, int stock, String unit) {
+    private Ingredient createIngredient(String name, double costPrice, double stock, String unit) {
         Ingredient ingredient = new Ingredient();
         ingredient.setName(name);
         ingredient.setCostPrice(costPrice);
@@ -0,0 +1,59 @@
+package com.inventory.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataSourceWarmer {
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    @Value("${database.pool.warm-up:true}")
+    private boolean enabled;
+
+    @PostConstruct
+    void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        routingDataSource.getPools().forEach(this::warmUp);
+    }
+
+    private void warmUp(HikariDataSource dataSource) {
+        int target = Math.max(1, dataSource.getMinimumIdle());
+        long start = System.currentTimeMillis();
+        List<Connection> connections = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                if (!connection.isValid((int) Math.max(1, dataSource.getValidationTimeout() / 1000))) {
+                    log.warn("Conexión no válida durante el calentamiento del pool {}", dataSource.getPoolName());
+                }
+            }
+            log.info("Pool {} calentado con {} conexiones en {} ms",
+                    dataSource.getPoolName(), connections.size(), System.currentTimeMillis() - start);
+        } catch (SQLException e) {
+            log.warn("No se pudo calentar el pool {}: {}", dataSource.getPoolName(), e.getMessage());
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("Error devolviendo conexión al pool", e);
+                }
+            }
+        }
+    }
+}
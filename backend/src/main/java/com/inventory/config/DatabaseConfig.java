@@ -1,15 +1,23 @@
 package com.inventory.config;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 public class DatabaseConfig {
@@ -17,6 +25,27 @@ public class DatabaseConfig {
     @Value("${DATABASE_URL:}")
     private String databaseUrl;
 
+    @Value("${database.replica-urls:}")
+    private List<String> replicaUrls;
+
+    @Value("${database.replica-connection-timeout-ms:2000}")
+    private long replicaConnectionTimeoutMs;
+
+    @Value("${database.export.pool-size:2}")
+    private int exportPoolSize;
+
+    @Value("${database.postgres.rewrite-batched-inserts:true}")
+    private boolean rewriteBatchedInserts;
+
+    @Value("${database.postgres.prepare-threshold:3}")
+    private int prepareThreshold;
+
+    @Value("${database.postgres.prepared-statement-cache-queries:256}")
+    private int preparedStatementCacheQueries;
+
+    @Value("${database.postgres.prepared-statement-cache-size-mib:5}")
+    private int preparedStatementCacheSizeMib;
+
     @Bean
     @Primary
     @ConfigurationProperties("spring.datasource")
@@ -24,39 +53,120 @@ public class DatabaseConfig {
         DataSourceProperties properties = new DataSourceProperties();
         
         if (databaseUrl != null && !databaseUrl.isEmpty()) {
-            try {
-                String dbUrl = databaseUrl;
-                if (dbUrl.startsWith("postgresql://")) {
-                    dbUrl = dbUrl.replace("postgresql://", "postgres://");
-                }
-                
-                URI dbUri = new URI(dbUrl);
-                String[] userInfo = dbUri.getUserInfo().split(":");
-                String username = userInfo[0];
-                String password = userInfo.length > 1 ? userInfo[1] : "";
-                
-                int port = dbUri.getPort() == -1 ? 5432 : dbUri.getPort();
-                String jdbcUrl = "jdbc:postgresql://" + dbUri.getHost() + ":" + port + dbUri.getPath();
-                
-                if (dbUri.getQuery() != null && !dbUri.getQuery().isEmpty()) {
-                    jdbcUrl += "?" + dbUri.getQuery();
-                }
-                
-                properties.setUrl(jdbcUrl);
-                properties.setUsername(username);
-                properties.setPassword(password);
-            } catch (URISyntaxException e) {
-                throw new RuntimeException("Error parsing DATABASE_URL: " + e.getMessage(), e);
-            }
+            applyDatabaseUrl(properties, databaseUrl);
         }
         
         return properties;
     }
 
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        String url = properties.determineUrl();
+        if (url != null && url.startsWith("jdbc:postgresql:")) {
+            addDriverProperty(dataSource, "reWriteBatchedInserts", rewriteBatchedInserts);
+            addDriverProperty(dataSource, "prepareThreshold", prepareThreshold);
+            addDriverProperty(dataSource, "preparedStatementCacheQueries", preparedStatementCacheQueries);
+            addDriverProperty(dataSource, "preparedStatementCacheSizeMiB", preparedStatementCacheSizeMib);
+            addDriverProperty(dataSource, "tcpKeepAlive", true);
+        }
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                        ObjectProvider<MeterRegistry> meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (!url.isBlank()) {
+                replicas.add(replicaDataSource(primaryDataSource, url.trim(), replicas.size() + 1, meterRegistry.getIfAvailable()));
+            }
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas);
+    }
+
     @Bean
     @Primary
-    public DataSource dataSource(DataSourceProperties properties) {
-        return properties.initializeDataSourceBuilder().build();
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public HikariDataSource exportDataSource(HikariDataSource primaryDataSource) {
+        HikariConfig config = new HikariConfig();
+        primaryDataSource.copyStateTo(config);
+        config.setPoolName(primaryDataSource.getPoolName() + "-export");
+        replicaUrls.stream().filter(url -> !url.isBlank()).findFirst()
+                .ifPresent(url -> applyReplicaUrl(config, url.trim()));
+        config.setMaximumPoolSize(exportPoolSize);
+        config.setMinimumIdle(0);
+        config.setReadOnly(true);
+        config.setAutoCommit(false);
+        config.setLeakDetectionThreshold(0);
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+
+    private HikariDataSource replicaDataSource(HikariDataSource primary, String url, int index, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setPoolName(primary.getPoolName() + "-replica-" + index);
+        applyReplicaUrl(config, url);
+        config.setReadOnly(true);
+        config.setConnectionTimeout(Math.min(config.getConnectionTimeout(), replicaConnectionTimeoutMs));
+        config.setInitializationFailTimeout(-1);
+        if (meterRegistry != null && config.getMetricsTrackerFactory() == null && config.getMetricRegistry() == null) {
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        return new HikariDataSource(config);
+    }
+
+    private void applyReplicaUrl(HikariConfig config, String url) {
+        DataSourceProperties replica = new DataSourceProperties();
+        if (url.startsWith("jdbc:")) {
+            replica.setUrl(url);
+        } else {
+            applyDatabaseUrl(replica, url);
+        }
+        config.setJdbcUrl(replica.getUrl());
+        if (replica.getUsername() != null) {
+            config.setUsername(replica.getUsername());
+            config.setPassword(replica.getPassword());
+        }
+    }
+
+    private void applyDatabaseUrl(DataSourceProperties properties, String url) {
+        try {
+            String dbUrl = url;
+            if (dbUrl.startsWith("postgresql://")) {
+                dbUrl = dbUrl.replace("postgresql://", "postgres://");
+            }
+            
+            URI dbUri = new URI(dbUrl);
+            String[] userInfo = dbUri.getUserInfo().split(":");
+            String username = userInfo[0];
+            String password = userInfo.length > 1 ? userInfo[1] : "";
+            
+            int port = dbUri.getPort() == -1 ? 5432 : dbUri.getPort();
+            String jdbcUrl = "jdbc:postgresql://" + dbUri.getHost() + ":" + port + dbUri.getPath();
+            
+            if (dbUri.getQuery() != null && !dbUri.getQuery().isEmpty()) {
+                jdbcUrl += "?" + dbUri.getQuery();
+            }
+            
+            properties.setUrl(jdbcUrl);
+            properties.setUsername(username);
+            properties.setPassword(password);
+        } catch (URISyntaxException e) {
+            throw new RuntimeException("Error parsing DATABASE_URL: " + e.getMessage(), e);
+        }
+    }
+
+    private void addDriverProperty(HikariDataSource dataSource, String name, Object value) {
+        if (!dataSource.getDataSourceProperties().containsKey(name)) {
+            dataSource.addDataSourceProperty(name, value);
+        }
     }
 }
 
@@ -0,0 +1,60 @@
+package com.inventory.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MethodTimingAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.inventory.service..*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service", AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName());
+    }
+
+    @Around("execution(public * *(..)) && (within(com.inventory.repository..*) || this(org.springframework.data.repository.Repository))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "repository", repositoryName(joinPoint));
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer, String className) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("inventory.method")
+                    .description("Duración de las llamadas a servicios y repositorios")
+                    .tag("layer", layer)
+                    .tag("class", className)
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    private String repositoryName(ProceedingJoinPoint joinPoint) {
+        if (joinPoint.getThis() instanceof Advised advised) {
+            for (Class<?> type : advised.getProxiedInterfaces()) {
+                if (Repository.class.isAssignableFrom(type) && type.getName().startsWith("com.inventory.")) {
+                    return type.getSimpleName();
+                }
+            }
+        }
+        return AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+    }
+}
@@ -0,0 +1,129 @@
+package com.inventory.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String PRIMARY = "primary";
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final HikariDataSource primary;
+    private final Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas) {
+        this.primary = primary;
+        replicas.forEach(replica -> this.replicas.put(replica.getPoolName(), replica));
+        Map<Object, Object> targets = new HashMap<>(this.replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    public static void withPrimary(Runnable action) {
+        boolean previous = forcePrimary();
+        try {
+            action.run();
+        } finally {
+            restorePrimary(previous);
+        }
+    }
+
+    public static boolean forcePrimary() {
+        boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        return previous;
+    }
+
+    public static void restorePrimary(boolean previous) {
+        if (previous) {
+            FORCE_PRIMARY.set(Boolean.TRUE);
+        } else {
+            FORCE_PRIMARY.remove();
+        }
+    }
+
+    public List<HikariDataSource> getPools() {
+        List<HikariDataSource> pools = new ArrayList<>();
+        pools.add(primary);
+        pools.addAll(replicas.values());
+        return pools;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        HikariDataSource replica = replicas.get(key);
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            markDown((String) key, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (FORCE_PRIMARY.get() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        List<String> available = healthyReplicas;
+        if (available.isEmpty()) {
+            return PRIMARY;
+        }
+        return available.get(Math.floorMod(next.getAndIncrement(), available.size()));
+    }
+
+    public void checkReplicas() {
+        if (replicas.isEmpty()) {
+            return;
+        }
+        List<String> healthy = new ArrayList<>();
+        replicas.forEach((name, replica) -> {
+            try (Connection connection = replica.getConnection()) {
+                if (connection.isValid((int) Math.max(1, replica.getValidationTimeout() / 1000))) {
+                    healthy.add(name);
+                }
+            } catch (SQLException e) {
+                log.debug("Réplica {} no disponible: {}", name, e.getMessage());
+            }
+        });
+        synchronized (this) {
+            if (!healthy.equals(healthyReplicas)) {
+                log.info("Réplicas de lectura disponibles: {} de {} {}", healthy.size(), replicas.size(), healthy);
+            }
+            healthyReplicas = List.copyOf(healthy);
+        }
+    }
+
+    private synchronized void markDown(String name, SQLException e) {
+        log.warn("Réplica {} no disponible, usando la base de datos principal: {}", name, e.getMessage());
+        List<String> healthy = new ArrayList<>(healthyReplicas);
+        healthy.remove(name);
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    @Override
+    public void destroy() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+}
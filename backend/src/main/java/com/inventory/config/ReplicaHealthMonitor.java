@@ -0,0 +1,17 @@
+package com.inventory.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ReplicaHealthMonitor {
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    @Scheduled(fixedDelayString = "${database.replica-health-check-ms:10000}")
+    public void checkReplicas() {
+        routingDataSource.checkReplicas();
+    }
+}
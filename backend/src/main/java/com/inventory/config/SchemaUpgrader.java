@@ -0,0 +1,44 @@
+package com.inventory.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class SchemaUpgrader {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void upgrade() {
+        if (!isPostgres()) {
+            return;
+        }
+        widenToDouble("ingredients", "current_stock");
+    }
+
+    private void widenToDouble(String table, String column) {
+        List<String> types = jdbcTemplate.queryForList(
+                "SELECT data_type FROM information_schema.columns WHERE table_name = ? AND column_name = ?",
+                String.class, table, column);
+        if (types.contains("integer")) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " TYPE double precision");
+            log.info("Columna {}.{} convertida a double precision", table, column);
+        }
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+}
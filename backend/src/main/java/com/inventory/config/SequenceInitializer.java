@@ -0,0 +1,45 @@
+package com.inventory.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class SequenceInitializer {
+
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "ingredients", "ingredients_seq",
+            "product_recipes", "product_recipes_seq",
+            "stock_movements", "stock_movements_seq"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSequences() {
+        if (!isPostgres()) {
+            return;
+        }
+        SEQUENCES.forEach((table, sequence) -> {
+            Long value = jdbcTemplate.queryForObject(
+                    "SELECT setval('" + sequence + "', GREATEST((SELECT COALESCE(MAX(id), 0) FROM " + table + "), "
+                            + "(SELECT last_value FROM " + sequence + "), 1))", Long.class);
+            log.info("Secuencia {} alineada con {} (valor {})", sequence, table, value);
+        });
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+}
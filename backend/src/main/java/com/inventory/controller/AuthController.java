@@ -2,18 +2,23 @@ package com.inventory.controller;
 
 import com.inventory.dto.AuthResponse;
 import com.inventory.dto.LoginRequest;
+import com.inventory.dto.RefreshTokenRequest;
 import com.inventory.dto.RegisterRequest;
 import com.inventory.entity.User;
+import com.inventory.security.AuthRateLimiter;
 import com.inventory.security.JwtTokenProvider;
+import com.inventory.security.RefreshTokenService;
 import com.inventory.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -23,23 +28,52 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
     private final UserService userService;
+    private final AuthRateLimiter authRateLimiter;
+    private final RefreshTokenService refreshTokenService;
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest request) {
+    public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        authRateLimiter.check(httpRequest.getRemoteAddr(), request.getUsername());
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword()));
+        User user = userService.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
 
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        String token = tokenProvider.generateToken(request.getUsername());
-
-        return ResponseEntity.ok(new AuthResponse(token, "Bearer", request.getUsername()));
+        return ResponseEntity.ok(toAuthResponse(user, refreshTokenService.issue(user)));
     }
 
     @PostMapping("/register")
-    public ResponseEntity<AuthResponse> register(@RequestBody RegisterRequest request) {
+    public ResponseEntity<AuthResponse> register(@RequestBody RegisterRequest request,
+                                                 HttpServletRequest httpRequest) {
+        authRateLimiter.check(httpRequest.getRemoteAddr(), null);
         User user = userService.registerUser(request.getUsername(), request.getEmail(), request.getPassword());
-        String token = tokenProvider.generateToken(user.getUsername());
 
-        return ResponseEntity.ok(new AuthResponse(token, "Bearer", user.getUsername()));
+        return ResponseEntity.ok(toAuthResponse(user, refreshTokenService.issue(user)));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+
+        return ResponseEntity.ok(toAuthResponse(rotation.getUser(), rotation.getRefreshToken()));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(@RequestBody(required = false) RefreshTokenRequest request) {
+        if (request != null) {
+            refreshTokenService.revoke(request.getRefreshToken());
+        }
+
+        return ResponseEntity.ok("Sesión cerrada correctamente");
+    }
+
+    private AuthResponse toAuthResponse(User user, String refreshToken) {
+        List<String> roles = user.getRoles().stream()
+                .map(role -> role.getName().name())
+                .toList();
+        int tokenVersion = user.getTokenVersion() != null ? user.getTokenVersion() : 0;
+        String token = tokenProvider.generateToken(user.getUsername(), roles, tokenVersion);
+
+        return new AuthResponse(token, "Bearer", user.getUsername(), refreshToken, tokenProvider.getExpirationSeconds());
     }
 }
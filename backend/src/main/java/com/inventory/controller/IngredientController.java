@@ -1,12 +1,23 @@
 package com.inventory.controller;
 
+import com.inventory.dto.BulkImportResult;
+import com.inventory.dto.IngredientFilter;
+import com.inventory.dto.PageResponse;
+import com.inventory.dto.StockAdjustmentRequest;
 import com.inventory.entity.Ingredient;
+import com.inventory.service.CatalogVersionTracker;
+import com.inventory.service.IngredientImportService;
 import com.inventory.service.IngredientService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,17 +28,44 @@ import java.util.Optional;
 public class IngredientController {
 
     private final IngredientService ingredientService;
+    private final IngredientImportService ingredientImportService;
+    private final CatalogVersionTracker catalogVersionTracker;
 
     @GetMapping
-    public ResponseEntity<List<Ingredient>> getAllIngredients() {
-        return ResponseEntity.ok(ingredientService.getAllIngredients());
+    public ResponseEntity<List<Ingredient>> getAllIngredients(WebRequest request) {
+        String eTag = catalogVersionTracker.getIngredientsETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(ingredientService.getAllIngredients());
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<Ingredient>> getIngredientPage(IngredientFilter filter,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "20") int size,
+                                                                      WebRequest request) {
+        String eTag = catalogVersionTracker.getIngredientsETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(ingredientService.getIngredientPage(filter, cursor, size));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Ingredient> getIngredientById(@PathVariable Long id) {
+    public ResponseEntity<Ingredient> getIngredientById(@PathVariable Long id, WebRequest request) {
         Optional<Ingredient> ingredient = ingredientService.getIngredientById(id);
-        return ingredient.map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        if (ingredient.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Instant lastModified = ingredient.get().getUpdatedAt();
+        if (lastModified == null) {
+            return ResponseEntity.ok(ingredient.get());
+        }
+        if (request.checkNotModified(lastModified.toEpochMilli())) {
+            return null;
+        }
+        return ResponseEntity.ok().lastModified(lastModified).body(ingredient.get());
     }
 
     @PostMapping
@@ -35,18 +73,35 @@ public class IngredientController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ingredientService.saveIngredient(ingredient));
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResult> bulkImport(@RequestBody List<Ingredient> ingredients) {
+        return ResponseEntity.ok(ingredientImportService.importIngredients(ingredients));
+    }
+
+    @PostMapping(value = "/bulk", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<BulkImportResult> bulkImportCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(ingredientImportService.importCsv(body));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Ingredient> updateIngredient(@PathVariable Long id, @RequestBody Ingredient ingredient) {
-        Optional<Ingredient> existing = ingredientService.getIngredientById(id);
-        if (existing.isPresent()) {
-            Ingredient existingIngredient = existing.get();
-            existingIngredient.setName(ingredient.getName());
-            existingIngredient.setCostPrice(ingredient.getCostPrice());
-            existingIngredient.setCurrentStock(ingredient.getCurrentStock());
-            existingIngredient.setUnit(ingredient.getUnit());
-            return ResponseEntity.ok(ingredientService.saveIngredient(existingIngredient));
-        }
-        return ResponseEntity.notFound().build();
+        return ingredientService.updateIngredient(id, ingredient)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/consume")
+    public ResponseEntity<Ingredient> consumeStock(@PathVariable Long id, @RequestBody StockAdjustmentRequest request) {
+        return ingredientService.consumeStock(id, request.getQuantity())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/restock")
+    public ResponseEntity<Ingredient> restock(@PathVariable Long id, @RequestBody StockAdjustmentRequest request) {
+        return ingredientService.restock(id, request.getQuantity())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 
     @DeleteMapping("/{id}")
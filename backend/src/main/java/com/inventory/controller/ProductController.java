@@ -1,14 +1,38 @@
 package com.inventory.controller;
 
+import com.inventory.dto.CatalogResponse;
+import com.inventory.dto.CostSimulation;
+import com.inventory.dto.PageResponse;
+import com.inventory.dto.ProductCapacity;
+import com.inventory.dto.ProductFilter;
+import com.inventory.dto.ProductionRequest;
+import com.inventory.dto.RecipeLineRequest;
+import com.inventory.dto.SimulationRequest;
+import com.inventory.entity.Ingredient;
 import com.inventory.entity.Product;
+import com.inventory.entity.ProductRecipe;
+import com.inventory.service.CatalogExportService;
+import com.inventory.service.CatalogVersionTracker;
+import com.inventory.service.ProductCapacityService;
 import com.inventory.service.ProductService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 
 @RestController
 @RequestMapping("/api/products")
@@ -17,28 +41,151 @@ import java.util.Optional;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductCapacityService productCapacityService;
+    private final CatalogExportService catalogExportService;
+    private final CatalogVersionTracker catalogVersionTracker;
 
     @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
-        return ResponseEntity.ok(productService.getAllProducts());
+    public ResponseEntity<List<Product>> getAllProducts(WebRequest request) {
+        String eTag = catalogVersionTracker.getProductsETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(productService.getAllProducts());
+    }
+
+    @GetMapping("/catalog")
+    public ResponseEntity<CatalogResponse> getCatalog(WebRequest request) {
+        String eTag = catalogVersionTracker.getProductsETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(productService.getCatalog());
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<Product>> getProductPage(ProductFilter filter,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(defaultValue = "20") int size,
+                                                                WebRequest request) {
+        String eTag = catalogVersionTracker.getProductsETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(productService.getProductPage(filter, cursor, size));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Product> getProductById(@PathVariable Long id) {
+    public ResponseEntity<Product> getProductById(@PathVariable Long id, WebRequest request) {
         Optional<Product> product = productService.getProductById(id);
-        return product.map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        if (product.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Instant lastModified = lastModified(product.get());
+        if (lastModified == null) {
+            return ResponseEntity.ok(product.get());
+        }
+        if (request.checkNotModified(lastModified.toEpochMilli())) {
+            return null;
+        }
+        return ResponseEntity.ok().lastModified(lastModified).body(product.get());
     }
 
     @PostMapping
     public ResponseEntity<Product> saveProduct(@RequestBody Product product) {
+        if (product.getId() != null) {
+            return updateProduct(product.getId(), product);
+        }
         Product savedProduct = productService.saveProduct(product);
         return ResponseEntity.status(HttpStatus.CREATED).body(savedProduct);
     }
 
+    @PutMapping("/{id}")
+    public ResponseEntity<Product> updateProduct(@PathVariable Long id, @RequestBody Product product) {
+        return productService.updateProduct(id, product)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(@RequestParam(defaultValue = "ndjson") String format,
+                                                                WebRequest request) {
+        long timeoutMs = catalogExportService.getTimeoutMs();
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(CatalogExportService.class.getName(),
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest asyncRequest, Callable<T> task) {
+                        ((AsyncWebRequest) asyncRequest).setTimeout(timeoutMs);
+                    }
+                });
+        return switch (format) {
+            case "ndjson" -> ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products.ndjson\"")
+                    .body(catalogExportService::exportNdjson);
+            case "csv" -> ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products.csv\"")
+                    .body(catalogExportService::exportCsv);
+            default -> throw new RuntimeException("Formato de exportación no válido: " + format);
+        };
+    }
+
+    @GetMapping("/capacity")
+    public ResponseEntity<List<ProductCapacity>> getCapacities() {
+        return ResponseEntity.ok(productCapacityService.getCapacities());
+    }
+
+    @GetMapping("/{id}/capacity")
+    public ResponseEntity<ProductCapacity> getCapacity(@PathVariable Long id) {
+        return productCapacityService.getCapacity(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/produce")
+    public ResponseEntity<Product> produce(@PathVariable Long id, @RequestBody ProductionRequest request) {
+        return productService.produce(id, request.getUnits())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/simulate")
+    public ResponseEntity<List<CostSimulation>> simulateCosts(@RequestBody SimulationRequest request) {
+        return ResponseEntity.ok(productService.simulateCosts(request));
+    }
+
+    @PatchMapping("/{id}/recipes/{ingredientId}")
+    public ResponseEntity<Product> updateRecipeLine(@PathVariable Long id,
+                                                    @PathVariable Long ingredientId,
+                                                    @RequestBody RecipeLineRequest request) {
+        return productService.updateRecipeLine(id, ingredientId, request.getQuantity())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}/recipes/{ingredientId}")
+    public ResponseEntity<Product> removeRecipeLine(@PathVariable Long id, @PathVariable Long ingredientId) {
+        return productService.removeRecipeLine(id, ingredientId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProduct(@PathVariable Long id) {
         productService.deleteProduct(id);
         return ResponseEntity.noContent().build();
     }
+
+    private Instant lastModified(Product product) {
+        if (product.getUpdatedAt() == null) {
+            return null;
+        }
+        return product.getRecipes().stream()
+                .map(ProductRecipe::getIngredient)
+                .filter(Objects::nonNull)
+                .map(Ingredient::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .reduce(product.getUpdatedAt(), (a, b) -> a.isAfter(b) ? a : b);
+    }
 }
@@ -0,0 +1,25 @@
+package com.inventory.controller;
+
+import com.inventory.dto.SearchResult;
+import com.inventory.service.CatalogSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:4200", "https://inventory-app-swart-nine.vercel.app", "https://inventory-fh6t48v7j-palomagits-projects.vercel.app", "https://inventory-72duhbquw-palomagits-projects.vercel.app"})
+public class SearchController {
+
+    private final CatalogSearchIndex catalogSearchIndex;
+
+    @GetMapping
+    public ResponseEntity<List<SearchResult>> search(@RequestParam("q") String query,
+                                                     @RequestParam(required = false) SearchResult.Type type,
+                                                     @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(catalogSearchIndex.search(query, type, limit));
+    }
+}
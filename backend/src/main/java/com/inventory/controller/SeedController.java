@@ -1,12 +1,19 @@
 package com.inventory.controller;
 
+import com.inventory.dto.CatalogGenerationRequest;
+import com.inventory.dto.CatalogGenerationResult;
 import com.inventory.entity.Ingredient;
 import com.inventory.entity.Product;
 import com.inventory.entity.ProductRecipe;
+import com.inventory.event.CatalogResetEvent;
 import com.inventory.repository.IngredientRepository;
 import com.inventory.repository.ProductRepository;
 import com.inventory.repository.ProductRecipeRepository;
+import com.inventory.service.CatalogGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
@@ -23,6 +30,11 @@ public class SeedController {
     private final IngredientRepository ingredientRepository;
     private final ProductRepository productRepository;
     private final ProductRecipeRepository productRecipeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogGenerator catalogGenerator;
+
+    @Value("${seed.generator.enabled:false}")
+    private boolean generatorEnabled;
 
     @PostMapping("/seed")
     @Transactional
@@ -34,12 +46,21 @@ public class SeedController {
             if (productRepository.count() == 0) {
                 seedProducts();
             }
+            eventPublisher.publishEvent(new CatalogResetEvent());
             return ResponseEntity.ok("Datos inicializados correctamente");
         } catch (Exception e) {
             return ResponseEntity.status(500).body("Error: " + e.getMessage());
         }
     }
 
+    @PostMapping("/generate")
+    public ResponseEntity<CatalogGenerationResult> generate(@RequestBody(required = false) CatalogGenerationRequest request) {
+        if (!generatorEnabled) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(catalogGenerator.generate(request != null ? request : new CatalogGenerationRequest()));
+    }
+
     private void seedIngredients() {
         List<Ingredient> ingredients = new ArrayList<>();
         ingredients.add(createIngredient("Huevos", 0.33, 12, "unidad"));
@@ -79,7 +100,7 @@ public class SeedController {
         ingredientRepository.saveAll(ingredients);
     }
 
-    private Ingredient createIngredient(String name, double costPrice, int stock, String unit) {
+    private Ingredient createIngredient(String name, double costPrice, double stock, String unit) {
         Ingredient ingredient = new Ingredient();
         ingredient.setName(name);
         ingredient.setCostPrice(costPrice);
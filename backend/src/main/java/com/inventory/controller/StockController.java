@@ -0,0 +1,48 @@
+package com.inventory.controller;
+
+import com.inventory.dto.StockLevel;
+import com.inventory.entity.StockMovement;
+import com.inventory.entity.StockMovement.ItemType;
+import com.inventory.service.StockLedgerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/stock")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:4200", "https://inventory-app-swart-nine.vercel.app", "https://inventory-fh6t48v7j-palomagits-projects.vercel.app", "https://inventory-72duhbquw-palomagits-projects.vercel.app"})
+public class StockController {
+
+    private final StockLedgerService stockLedgerService;
+
+    @GetMapping("/{itemType}/{itemId}/movements")
+    public ResponseEntity<List<StockMovement>> getMovements(
+            @PathVariable String itemType,
+            @PathVariable Long itemId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(stockLedgerService.getHistory(parseItemType(itemType), itemId, from, to, size));
+    }
+
+    @GetMapping("/{itemType}/{itemId}/level")
+    public ResponseEntity<StockLevel> getStockLevel(
+            @PathVariable String itemType,
+            @PathVariable Long itemId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at) {
+        return ResponseEntity.ok(stockLedgerService.getStockAt(parseItemType(itemType), itemId, at));
+    }
+
+    private ItemType parseItemType(String itemType) {
+        return switch (itemType) {
+            case "ingredients" -> ItemType.INGREDIENT;
+            case "products" -> ItemType.PRODUCT;
+            default -> throw new RuntimeException("Tipo de artículo no válido: " + itemType);
+        };
+    }
+}
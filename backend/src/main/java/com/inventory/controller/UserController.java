@@ -4,11 +4,14 @@ import com.inventory.dto.ChangePasswordRequest;
 import com.inventory.dto.UpdateProfileRequest;
 import com.inventory.dto.UserProfileResponse;
 import com.inventory.entity.User;
-import com.inventory.security.JwtTokenProvider;
+import com.inventory.security.AuthRateLimiter;
+import com.inventory.security.RefreshTokenService;
+import com.inventory.security.UserTokenStateService;
 import com.inventory.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
@@ -23,11 +26,13 @@ import java.util.stream.Collectors;
 public class UserController {
 
     private final UserService userService;
-    private final JwtTokenProvider tokenProvider;
+    private final UserTokenStateService userTokenStateService;
+    private final AuthRateLimiter authRateLimiter;
+    private final RefreshTokenService refreshTokenService;
 
     @GetMapping("/profile")
-    public ResponseEntity<UserProfileResponse> getProfile(HttpServletRequest request) {
-        String username = getCurrentUsername(request);
+    public ResponseEntity<UserProfileResponse> getProfile() {
+        String username = getCurrentUsername();
         User user = userService.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
 
@@ -37,9 +42,8 @@ public class UserController {
 
     @PutMapping("/profile")
     public ResponseEntity<UserProfileResponse> updateProfile(
-            @RequestBody UpdateProfileRequest updateRequest,
-            HttpServletRequest request) {
-        String username = getCurrentUsername(request);
+            @RequestBody UpdateProfileRequest updateRequest) {
+        String username = getCurrentUsername();
         User user = userService.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
 
@@ -58,9 +62,9 @@ public class UserController {
 
     @PostMapping("/change-password")
     public ResponseEntity<String> changePassword(
-            @RequestBody ChangePasswordRequest request,
-            HttpServletRequest httpRequest) {
-        String username = getCurrentUsername(httpRequest);
+            @RequestBody ChangePasswordRequest request, HttpServletRequest httpRequest) {
+        String username = getCurrentUsername();
+        authRateLimiter.check(httpRequest.getRemoteAddr(), username);
         User user = userService.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
 
@@ -69,25 +73,30 @@ public class UserController {
                 request.getCurrentPassword(),
                 request.getNewPassword()
         );
+        userTokenStateService.evict(user.getUsername());
 
         return ResponseEntity.ok("Contraseña actualizada correctamente");
     }
 
-    private String getCurrentUsername(HttpServletRequest request) {
-        String token = getTokenFromRequest(request);
-        if (token != null && tokenProvider.validateToken(token)) {
-            return tokenProvider.getUsernameFromToken(token);
-        }
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return auth != null ? auth.getName() : null;
+    @PostMapping("/logout-all")
+    public ResponseEntity<String> logoutAll() {
+        String username = getCurrentUsername();
+        User user = userService.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+
+        userService.revokeTokens(user.getId());
+        refreshTokenService.revokeAll(user.getId());
+        userTokenStateService.evict(user.getUsername());
+
+        return ResponseEntity.ok("Sesiones cerradas correctamente");
     }
 
-    private String getTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
+    private String getCurrentUsername() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
         }
-        return null;
+        return auth.getName();
     }
 
     private UserProfileResponse mapToProfileResponse(User user) {
@@ -11,6 +11,6 @@ public class AuthResponse {
     private String token;
     private String type = "Bearer";
     private String username;
+    private String refreshToken;
+    private long expiresIn;
 }
-
-
@@ -0,0 +1,18 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogGenerationRequest {
+    private int ingredients = 1000;
+    private int products = 1000;
+    private int minRecipeSize = 3;
+    private int maxRecipeSize = 10;
+    private double popularitySkew = 1.0;
+    private long seed = 42;
+    private String namePrefix = "Sintético";
+}
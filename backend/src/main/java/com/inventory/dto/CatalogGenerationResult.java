@@ -0,0 +1,19 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogGenerationResult {
+    private int ingredients;
+    private int products;
+    private long recipeLines;
+    private Long firstIngredientId;
+    private Long lastIngredientId;
+    private Long firstProductId;
+    private Long lastProductId;
+    private long elapsedMs;
+}
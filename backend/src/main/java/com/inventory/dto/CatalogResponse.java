@@ -0,0 +1,15 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogResponse {
+    private List<ProductListItem> products;
+    private List<IngredientReference> ingredients;
+}
@@ -0,0 +1,18 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CostSimulation {
+    private Long productId;
+    private String name;
+    private Double price;
+    private Double currentCost;
+    private Double simulatedCost;
+    private Double currentMargin;
+    private Double simulatedMargin;
+}
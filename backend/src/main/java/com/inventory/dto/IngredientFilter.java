@@ -0,0 +1,14 @@
+package com.inventory.dto;
+
+import lombok.Data;
+
+@Data
+public class IngredientFilter {
+    private String name;
+    private Double minCost;
+    private Double maxCost;
+    private Double minStock;
+    private Double maxStock;
+    private String sort = "name";
+    private String direction = "asc";
+}
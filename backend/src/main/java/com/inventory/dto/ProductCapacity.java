@@ -0,0 +1,14 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductCapacity {
+    private Long productId;
+    private Long maxUnits;
+    private Long bottleneckIngredientId;
+}
@@ -0,0 +1,14 @@
+package com.inventory.dto;
+
+import lombok.Data;
+
+@Data
+public class ProductFilter {
+    private String name;
+    private Double minPrice;
+    private Double maxPrice;
+    private Integer minStock;
+    private Integer maxStock;
+    private String sort = "name";
+    private String direction = "asc";
+}
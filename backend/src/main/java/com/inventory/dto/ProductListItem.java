@@ -0,0 +1,23 @@
+package com.inventory.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductListItem {
+    private Long id;
+    private String name;
+    private String description;
+    private Double price;
+    private Integer stock;
+    private Double calculatedCost;
+    private Double profitMargin;
+    private List<RecipeLineView> recipes;
+}
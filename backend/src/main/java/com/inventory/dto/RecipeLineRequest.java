@@ -0,0 +1,8 @@
+package com.inventory.dto;
+
+import lombok.Data;
+
+@Data
+public class RecipeLineRequest {
+    private Double quantity;
+}
@@ -0,0 +1,20 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResult {
+    private Type type;
+    private Long id;
+    private String name;
+    private double score;
+
+    public enum Type {
+        PRODUCT,
+        INGREDIENT
+    }
+}
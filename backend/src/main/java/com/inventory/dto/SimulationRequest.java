@@ -0,0 +1,12 @@
+package com.inventory.dto;
+
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+public class SimulationRequest {
+    private Map<Long, Double> priceOverrides = new HashMap<>();
+    private Map<Long, Double> percentageChanges = new HashMap<>();
+}
@@ -0,0 +1,18 @@
+package com.inventory.dto;
+
+import com.inventory.entity.StockMovement;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockLevel {
+    private StockMovement.ItemType itemType;
+    private Long itemId;
+    private Instant at;
+    private Double quantity;
+}
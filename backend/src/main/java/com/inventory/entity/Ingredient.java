@@ -5,7 +5,9 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.util.List;
 
 @Entity
@@ -16,7 +18,8 @@ import java.util.List;
 public class Ingredient {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ingredients_seq")
+    @SequenceGenerator(name = "ingredients_seq", sequenceName = "ingredients_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -26,11 +29,16 @@ public class Ingredient {
     private Double costPrice;
 
     @Column(name = "current_stock", nullable = false)
-    private Integer currentStock;
+    private Double currentStock;
 
     @Column(nullable = false, length = 20)
     private String unit;
 
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    @JsonIgnore
+    private Instant updatedAt;
+
     @OneToMany(mappedBy = "ingredient", cascade = {}, orphanRemoval = false)
     @JsonIgnore
     private List<ProductRecipe> productRecipes;
@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 public class ProductRecipe {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_recipes_seq")
+    @SequenceGenerator(name = "product_recipes_seq", sequenceName = "product_recipes_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
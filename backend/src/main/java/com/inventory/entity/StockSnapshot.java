@@ -0,0 +1,42 @@
+package com.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+@Entity
+@Table(name = "stock_snapshots", indexes = {
+        @Index(name = "idx_stock_snapshots_taken_at", columnList = "taken_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockSnapshot {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private Double quantity;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "item_type", nullable = false, length = 20)
+        private StockMovement.ItemType itemType;
+
+        @Column(name = "item_id", nullable = false)
+        private Long itemId;
+
+        @Column(name = "taken_at", nullable = false)
+        private Instant takenAt;
+    }
+}
@@ -0,0 +1,4 @@
+package com.inventory.event;
+
+public class CatalogResetEvent {
+}
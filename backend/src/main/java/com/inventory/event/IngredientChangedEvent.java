@@ -0,0 +1,24 @@
+package com.inventory.event;
+
+import com.inventory.entity.Ingredient;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class IngredientChangedEvent {
+    private final Long ingredientId;
+    private final String name;
+    private final Double costPrice;
+    private final Double currentStock;
+    private final boolean deleted;
+
+    public static IngredientChangedEvent of(Ingredient ingredient) {
+        return new IngredientChangedEvent(ingredient.getId(), ingredient.getName(),
+                ingredient.getCostPrice(), ingredient.getCurrentStock(), false);
+    }
+
+    public static IngredientChangedEvent deleted(Long ingredientId) {
+        return new IngredientChangedEvent(ingredientId, null, null, null, true);
+    }
+}
@@ -0,0 +1,21 @@
+package com.inventory.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+    private final Long productId;
+    private final String name;
+    private final String description;
+    private final Double price;
+    private final Map<Long, Double> recipeLines;
+    private final boolean deleted;
+
+    public static ProductChangedEvent deleted(Long productId) {
+        return new ProductChangedEvent(productId, null, null, null, Map.of(), true);
+    }
+}
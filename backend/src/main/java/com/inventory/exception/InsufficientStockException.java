@@ -0,0 +1,14 @@
+package com.inventory.exception;
+
+import lombok.Getter;
+
+@Getter
+public class InsufficientStockException extends RuntimeException {
+
+    private final Long ingredientId;
+
+    public InsufficientStockException(Long ingredientId) {
+        super("Stock insuficiente del ingrediente: " + ingredientId);
+        this.ingredientId = ingredientId;
+    }
+}
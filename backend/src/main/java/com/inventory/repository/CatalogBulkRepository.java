@@ -0,0 +1,87 @@
+package com.inventory.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class CatalogBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    public synchronized long reserveIngredientIds(int count) {
+        return reserveSequenceIds("ingredients", "ingredients_seq", count);
+    }
+
+    public synchronized long reserveRecipeIds(long count) {
+        return reserveSequenceIds("product_recipes", "product_recipes_seq", count);
+    }
+
+    public synchronized long reserveProductIds(int count) {
+        if (isPostgres()) {
+            String sequence = jdbcTemplate.queryForObject("SELECT pg_get_serial_sequence('products', 'id')", String.class);
+            Long end = jdbcTemplate.queryForObject(
+                    "SELECT setval('" + sequence + "', GREATEST((SELECT COALESCE(MAX(id), 0) FROM products), "
+                            + "(SELECT last_value FROM " + sequence + ")) + ?)", Long.class, count);
+            return end - count + 1;
+        }
+        Long start = jdbcTemplate.queryForObject(
+                "SELECT GREATEST((SELECT COALESCE(MAX(id), 0) + 1 FROM products), "
+                        + "(SELECT IDENTITY_BASE FROM INFORMATION_SCHEMA.COLUMNS "
+                        + "WHERE TABLE_NAME = 'PRODUCTS' AND COLUMN_NAME = 'ID'))", Long.class);
+        jdbcTemplate.execute("ALTER TABLE products ALTER COLUMN id RESTART WITH " + (start + count));
+        return start;
+    }
+
+    public void insertIngredients(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO ingredients (id, name, cost_price, current_stock, unit, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    public void insertProducts(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO products (id, name, description, price, stock, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    public void insertRecipeLines(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_recipes (id, product_id, ingredient_id, quantity) VALUES (?, ?, ?, ?)",
+                rows);
+    }
+
+    private long reserveSequenceIds(String table, String sequence, long count) {
+        if (isPostgres()) {
+            Long end = jdbcTemplate.queryForObject(
+                    "SELECT setval('" + sequence + "', GREATEST((SELECT COALESCE(MAX(id), 0) FROM " + table + "), "
+                            + "(SELECT last_value FROM " + sequence + ")) + ?)", Long.class, count);
+            return end - count + 1;
+        }
+        Map<String, Object> state = jdbcTemplate.queryForMap(
+                "SELECT BASE_VALUE, INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?",
+                sequence.toUpperCase());
+        long increment = ((Number) state.get("INCREMENT")).longValue();
+        long lastValue = ((Number) state.get("BASE_VALUE")).longValue() - increment;
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        long start = Math.max(maxId, lastValue) + 1;
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (start + count - 1 + increment));
+        return start;
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return postgres;
+    }
+}
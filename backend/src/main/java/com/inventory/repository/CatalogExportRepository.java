@@ -0,0 +1,46 @@
+package com.inventory.repository;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.stream.Stream;
+
+@Repository
+public class CatalogExportRepository {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String EXPORT_ROWS = "SELECT p.id AS product_id, p.name AS product_name, p.description, p.price, "
+            + "p.stock, i.id AS ingredient_id, i.name AS ingredient_name, i.unit, i.cost_price, r.quantity "
+            + "FROM products p LEFT JOIN product_recipes r ON r.product_id = p.id "
+            + "LEFT JOIN ingredients i ON i.id = r.ingredient_id ORDER BY p.id, r.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogExportRepository(@Qualifier("exportDataSource") DataSource exportDataSource) {
+        this.jdbcTemplate = new JdbcTemplate(exportDataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    public Stream<ProductExportRow> streamExportRows() {
+        return jdbcTemplate.queryForStream(EXPORT_ROWS, (rs, rowNum) -> new ProductExportRow(
+                rs.getLong("product_id"),
+                rs.getString("product_name"),
+                rs.getString("description"),
+                nullableDouble(rs, "price"),
+                rs.getObject("stock", Integer.class),
+                rs.getObject("ingredient_id", Long.class),
+                rs.getString("ingredient_name"),
+                rs.getString("unit"),
+                nullableDouble(rs, "cost_price"),
+                nullableDouble(rs, "quantity")));
+    }
+
+    private static Double nullableDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+}
@@ -0,0 +1,6 @@
+package com.inventory.repository;
+
+public interface IngredientPrice {
+    Long getId();
+    Double getCostPrice();
+}
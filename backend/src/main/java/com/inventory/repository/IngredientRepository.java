@@ -2,10 +2,22 @@ package com.inventory.repository;
 
 import com.inventory.entity.Ingredient;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
-public interface IngredientRepository extends JpaRepository<Ingredient, Long> {
+public interface IngredientRepository extends JpaRepository<Ingredient, Long>, IngredientRepositoryCustom {
+
+    List<Ingredient> findByNameIn(Collection<String> names);
+
+    @Query("SELECT i.id AS id, i.costPrice AS costPrice FROM Ingredient i")
+    List<IngredientPrice> findAllPrices();
+
+    @Query("SELECT i.id AS id, i.currentStock AS currentStock FROM Ingredient i")
+    List<IngredientStock> findAllStocks();
 }
 
 
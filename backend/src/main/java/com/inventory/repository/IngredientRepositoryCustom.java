@@ -0,0 +1,9 @@
+package com.inventory.repository;
+
+import com.inventory.dto.IngredientFilter;
+
+import java.util.List;
+
+public interface IngredientRepositoryCustom {
+    List<KeysetCursor> findPageKeys(IngredientFilter filter, KeysetCursor after, int limit);
+}
@@ -0,0 +1,78 @@
+package com.inventory.repository;
+
+import com.inventory.dto.IngredientFilter;
+import com.inventory.entity.Ingredient;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public class IngredientRepositoryImpl implements IngredientRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<KeysetCursor> findPageKeys(IngredientFilter filter, KeysetCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Ingredient> ingredient = query.from(Ingredient.class);
+
+        return switch (filter.getSort()) {
+            case "name" -> page(cb, query, ingredient, ingredient.<String>get("name"), Function.identity(), filter, after, limit);
+            case "cost" -> page(cb, query, ingredient, ingredient.<Double>get("costPrice"), Double::valueOf, filter, after, limit);
+            case "stock" -> page(cb, query, ingredient, ingredient.<Double>get("currentStock"), Double::valueOf, filter, after, limit);
+            default -> throw new RuntimeException("Campo de ordenación no válido: " + filter.getSort());
+        };
+    }
+
+    private <Y extends Comparable<? super Y>> List<KeysetCursor> page(CriteriaBuilder cb, CriteriaQuery<Tuple> query,
+                                                                      Root<Ingredient> ingredient, Expression<Y> key,
+                                                                      Function<String, Y> parser, IngredientFilter filter,
+                                                                      KeysetCursor after, int limit) {
+        boolean descending = "desc".equalsIgnoreCase(filter.getDirection());
+        List<Predicate> predicates = filters(cb, ingredient, filter);
+        if (after != null) {
+            predicates.add(after.after(cb, key, ingredient.get("id"), parser, descending));
+        }
+
+        query.multiselect(ingredient.get("id"), key)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(descending ? cb.desc(key) : cb.asc(key),
+                        descending ? cb.desc(ingredient.get("id")) : cb.asc(ingredient.get("id")));
+
+        List<KeysetCursor> keys = new ArrayList<>();
+        for (Tuple row : entityManager.createQuery(query).setMaxResults(limit).getResultList()) {
+            keys.add(new KeysetCursor(filter.getSort(), row.get(1), row.get(0, Long.class)));
+        }
+        return keys;
+    }
+
+    private List<Predicate> filters(CriteriaBuilder cb, Root<Ingredient> ingredient, IngredientFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getName() != null && !filter.getName().isBlank()) {
+            predicates.add(cb.like(cb.lower(ingredient.get("name")), ProductRepositoryImpl.namePrefix(filter.getName()), '\\'));
+        }
+        if (filter.getMinCost() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(ingredient.get("costPrice"), filter.getMinCost()));
+        }
+        if (filter.getMaxCost() != null) {
+            predicates.add(cb.lessThanOrEqualTo(ingredient.get("costPrice"), filter.getMaxCost()));
+        }
+        if (filter.getMinStock() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(ingredient.get("currentStock"), filter.getMinStock()));
+        }
+        if (filter.getMaxStock() != null) {
+            predicates.add(cb.lessThanOrEqualTo(ingredient.get("currentStock"), filter.getMaxStock()));
+        }
+        return predicates;
+    }
+}
@@ -0,0 +1,6 @@
+package com.inventory.repository;
+
+public interface IngredientStock {
+    Long getId();
+    Double getCurrentStock();
+}
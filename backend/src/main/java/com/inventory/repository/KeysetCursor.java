@@ -0,0 +1,63 @@
+package com.inventory.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "\u001F";
+
+    private final String sort;
+    private final String value;
+    private final Long id;
+
+    public KeysetCursor(String sort, Object value, Long id) {
+        this.sort = sort;
+        this.value = String.valueOf(value);
+        this.id = id;
+    }
+
+    public static KeysetCursor decode(String token, String expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 3 || !parts[0].equals(expectedSort)) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new KeysetCursor(parts[0], parts[1], Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Cursor de paginación inválido");
+        }
+    }
+
+    public String encode() {
+        String raw = sort + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public <Y extends Comparable<? super Y>> Predicate after(CriteriaBuilder cb, Expression<Y> key, Path<Long> idPath,
+                                                             Function<String, Y> parser, boolean descending) {
+        Y lastValue;
+        try {
+            lastValue = parser.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Cursor de paginación inválido");
+        }
+        if (descending) {
+            return cb.or(cb.lessThan(key, lastValue),
+                    cb.and(cb.equal(key, lastValue), cb.lessThan(idPath, id)));
+        }
+        return cb.or(cb.greaterThan(key, lastValue),
+                cb.and(cb.equal(key, lastValue), cb.greaterThan(idPath, id)));
+    }
+}
@@ -0,0 +1,17 @@
+package com.inventory.repository;
+
+import lombok.Value;
+
+@Value
+public class ProductExportRow {
+    Long productId;
+    String productName;
+    String description;
+    Double price;
+    Integer stock;
+    Long ingredientId;
+    String ingredientName;
+    String unit;
+    Double costPrice;
+    Double quantity;
+}
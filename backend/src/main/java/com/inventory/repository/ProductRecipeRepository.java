@@ -2,6 +2,8 @@ package com.inventory.repository;
 
 import com.inventory.entity.ProductRecipe;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,6 +11,11 @@ import java.util.List;
 @Repository
 public interface ProductRecipeRepository extends JpaRepository<ProductRecipe, Long> {
     List<ProductRecipe> findByProductId(Long productId);
-}
 
+    @Query("SELECT r.product.id AS productId, r.ingredient.id AS ingredientId, r.quantity AS quantity FROM ProductRecipe r")
+    List<RecipeLine> findAllLines();
 
+    @Query("SELECT r.product.id AS productId, r.ingredient.id AS ingredientId, r.quantity AS quantity "
+            + "FROM ProductRecipe r WHERE r.product.id = :productId ORDER BY r.ingredient.id")
+    List<RecipeLine> findLinesByProductId(@Param("productId") Long productId);
+}
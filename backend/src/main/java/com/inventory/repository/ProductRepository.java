@@ -2,8 +2,27 @@ package com.inventory.repository;
 
 import com.inventory.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
+
+    @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.recipes r LEFT JOIN FETCH r.ingredient ORDER BY p.id")
+    List<Product> findAllWithRecipes();
+
+    @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.recipes r LEFT JOIN FETCH r.ingredient WHERE p.id = :id")
+    Optional<Product> findByIdWithRecipes(@Param("id") Long id);
+
+    @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.recipes r LEFT JOIN FETCH r.ingredient WHERE p.id IN :ids")
+    List<Product> findAllWithRecipesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id AS id, p.name AS name, p.price AS price FROM Product p")
+    List<ProductSummary> findAllSummaries();
+
 }
@@ -0,0 +1,9 @@
+package com.inventory.repository;
+
+import com.inventory.dto.ProductFilter;
+
+import java.util.List;
+
+public interface ProductRepositoryCustom {
+    List<KeysetCursor> findPageKeys(ProductFilter filter, KeysetCursor after, int limit);
+}
@@ -0,0 +1,100 @@
+package com.inventory.repository;
+
+import com.inventory.dto.ProductFilter;
+import com.inventory.entity.Ingredient;
+import com.inventory.entity.Product;
+import com.inventory.entity.ProductRecipe;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<KeysetCursor> findPageKeys(ProductFilter filter, KeysetCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> product = query.from(Product.class);
+
+        return switch (filter.getSort()) {
+            case "name" -> page(cb, query, product, product.<String>get("name"), Function.identity(), filter, after, limit);
+            case "price" -> page(cb, query, product, product.<Double>get("price"), Double::valueOf, filter, after, limit);
+            case "stock" -> page(cb, query, product, product.<Integer>get("stock"), Integer::valueOf, filter, after, limit);
+            case "margin" -> page(cb, query, product, margin(cb, query, product), BigDecimal::new, filter, after, limit);
+            default -> throw new RuntimeException("Campo de ordenación no válido: " + filter.getSort());
+        };
+    }
+
+    private <Y extends Comparable<? super Y>> List<KeysetCursor> page(CriteriaBuilder cb, CriteriaQuery<Tuple> query,
+                                                                      Root<Product> product, Expression<Y> key,
+                                                                      Function<String, Y> parser, ProductFilter filter,
+                                                                      KeysetCursor after, int limit) {
+        boolean descending = "desc".equalsIgnoreCase(filter.getDirection());
+        List<Predicate> predicates = filters(cb, product, filter);
+        if (after != null) {
+            predicates.add(after.after(cb, key, product.get("id"), parser, descending));
+        }
+
+        query.multiselect(product.get("id"), key)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(descending ? cb.desc(key) : cb.asc(key),
+                        descending ? cb.desc(product.get("id")) : cb.asc(product.get("id")));
+
+        List<KeysetCursor> keys = new ArrayList<>();
+        for (Tuple row : entityManager.createQuery(query).setMaxResults(limit).getResultList()) {
+            keys.add(new KeysetCursor(filter.getSort(), row.get(1), row.get(0, Long.class)));
+        }
+        return keys;
+    }
+
+    private Expression<BigDecimal> margin(CriteriaBuilder cb, CriteriaQuery<Tuple> query, Root<Product> product) {
+        Subquery<Double> cost = query.subquery(Double.class);
+        Root<ProductRecipe> recipe = cost.from(ProductRecipe.class);
+        Join<ProductRecipe, Ingredient> ingredient = recipe.join("ingredient");
+        cost.select(cb.sum(cb.prod(recipe.<Double>get("quantity"), ingredient.<Double>get("costPrice"))))
+                .where(cb.equal(recipe.get("product"), product));
+        return cb.diff(product.<Double>get("price"), cb.coalesce(cost, 0.0)).as(BigDecimal.class);
+    }
+
+    private List<Predicate> filters(CriteriaBuilder cb, Root<Product> product, ProductFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getName() != null && !filter.getName().isBlank()) {
+            predicates.add(cb.like(cb.lower(product.get("name")), namePrefix(filter.getName()), '\\'));
+        }
+        if (filter.getMinPrice() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(product.get("price"), filter.getMinPrice()));
+        }
+        if (filter.getMaxPrice() != null) {
+            predicates.add(cb.lessThanOrEqualTo(product.get("price"), filter.getMaxPrice()));
+        }
+        if (filter.getMinStock() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(product.get("stock"), filter.getMinStock()));
+        }
+        if (filter.getMaxStock() != null) {
+            predicates.add(cb.lessThanOrEqualTo(product.get("stock"), filter.getMaxStock()));
+        }
+        return predicates;
+    }
+
+    static String namePrefix(String name) {
+        return name.trim().toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+}
@@ -0,0 +1,7 @@
+package com.inventory.repository;
+
+public interface ProductSummary {
+    Long getId();
+    String getName();
+    Double getPrice();
+}
@@ -0,0 +1,7 @@
+package com.inventory.repository;
+
+public interface RecipeLine {
+    Long getProductId();
+    Long getIngredientId();
+    Double getQuantity();
+}
@@ -0,0 +1,30 @@
+package com.inventory.repository;
+
+import com.inventory.entity.StockMovement;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface StockMovementRepository extends JpaRepository<StockMovement, Long> {
+
+    @Query("SELECT m FROM StockMovement m WHERE m.itemType = :itemType AND m.itemId = :itemId "
+            + "AND m.createdAt >= :from AND m.createdAt <= :to ORDER BY m.createdAt DESC, m.id DESC")
+    List<StockMovement> findHistory(@Param("itemType") StockMovement.ItemType itemType,
+                                    @Param("itemId") Long itemId,
+                                    @Param("from") Instant from,
+                                    @Param("to") Instant to,
+                                    Pageable pageable);
+
+    @Query("SELECT COALESCE(SUM(m.quantity), 0) FROM StockMovement m WHERE m.itemType = :itemType "
+            + "AND m.itemId = :itemId AND m.createdAt > :since AND m.createdAt <= :until")
+    Double sumQuantity(@Param("itemType") StockMovement.ItemType itemType,
+                       @Param("itemId") Long itemId,
+                       @Param("since") Instant since,
+                       @Param("until") Instant until);
+}
@@ -0,0 +1,61 @@
+package com.inventory.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+@Repository
+@RequiredArgsConstructor
+public class StockRepository {
+
+    public static final double QUANTITY_TOLERANCE = 1e-9;
+    private static final int QUANTITY_SCALE = 9;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public static double normalize(double quantity) {
+        return BigDecimal.valueOf(quantity).setScale(QUANTITY_SCALE, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    public int addProductStock(Long productId, int units) {
+        return jdbcTemplate.update(
+                "UPDATE products SET stock = stock + ?, updated_at = ? WHERE id = ?",
+                units, Timestamp.from(Instant.now()), productId);
+    }
+
+    public int addIngredientStock(Long ingredientId, double quantity) {
+        return jdbcTemplate.update(
+                "UPDATE ingredients SET current_stock = current_stock + ?, updated_at = ? WHERE id = ?",
+                quantity, Timestamp.from(Instant.now()), ingredientId);
+    }
+
+    public List<Long> subtractIngredientStock(SortedMap<Long, Double> quantities) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Long> ids = new ArrayList<>(quantities.keySet());
+        List<Object[]> batch = new ArrayList<>(quantities.size());
+        for (Map.Entry<Long, Double> entry : quantities.entrySet()) {
+            double quantity = normalize(entry.getValue());
+            batch.add(new Object[]{quantity, now, entry.getKey(), quantity - QUANTITY_TOLERANCE});
+        }
+        int[] counts = jdbcTemplate.batchUpdate(
+                "UPDATE ingredients SET current_stock = current_stock - ?, updated_at = ? "
+                        + "WHERE id = ? AND current_stock >= ?", batch);
+
+        List<Long> rejected = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                rejected.add(ids.get(i));
+            }
+        }
+        return rejected;
+    }
+}
@@ -0,0 +1,16 @@
+package com.inventory.repository;
+
+import com.inventory.entity.StockMovement;
+import com.inventory.entity.StockSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface StockSnapshotRepository extends JpaRepository<StockSnapshot, StockSnapshot.Key> {
+
+    Optional<StockSnapshot> findFirstByIdItemTypeAndIdItemIdAndIdTakenAtLessThanEqualOrderByIdTakenAtDesc(
+            StockMovement.ItemType itemType, Long itemId, Instant at);
+}
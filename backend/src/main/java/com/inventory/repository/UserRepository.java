@@ -2,6 +2,8 @@ package com.inventory.repository;
 
 import com.inventory.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,6 +14,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.enabled AS enabled, u.tokenVersion AS tokenVersion FROM User u WHERE u.username = :username")
+    Optional<UserTokenState> findTokenStateByUsername(@Param("username") String username);
 }
 
 
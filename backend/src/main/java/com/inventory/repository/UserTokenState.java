@@ -0,0 +1,6 @@
+package com.inventory.repository;
+
+public interface UserTokenState {
+    Boolean getEnabled();
+    Integer getTokenVersion();
+}
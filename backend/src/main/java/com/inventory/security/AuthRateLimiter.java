@@ -0,0 +1,65 @@
+package com.inventory.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inventory.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class AuthRateLimiter {
+
+    private final Cache<String, AtomicInteger> attempts;
+    private final int maxAttemptsPerIp;
+    private final int maxAttemptsPerUsername;
+    private final long windowSeconds;
+    private final Counter ipRejected;
+    private final Counter usernameRejected;
+
+    public AuthRateLimiter(@Value("${security.rate-limit.window-seconds:60}") long windowSeconds,
+                           @Value("${security.rate-limit.ip-max-attempts:30}") int maxAttemptsPerIp,
+                           @Value("${security.rate-limit.username-max-attempts:10}") int maxAttemptsPerUsername,
+                           MeterRegistry meterRegistry) {
+        this.windowSeconds = windowSeconds;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.maxAttemptsPerUsername = maxAttemptsPerUsername;
+        this.attempts = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(windowSeconds))
+                .maximumSize(100_000)
+                .build();
+        this.ipRejected = rejectedCounter(meterRegistry, "ip");
+        this.usernameRejected = rejectedCounter(meterRegistry, "username");
+    }
+
+    public void check(String clientIp, String username) {
+        if (clientIp != null) {
+            acquire("ip:" + clientIp, maxAttemptsPerIp, ipRejected);
+        }
+        if (username != null && !username.isBlank()) {
+            acquire("user:" + username.trim().toLowerCase(Locale.ROOT), maxAttemptsPerUsername, usernameRejected);
+        }
+    }
+
+    private void acquire(String key, int limit, Counter rejected) {
+        if (limit <= 0) {
+            return;
+        }
+        if (attempts.get(key, k -> new AtomicInteger()).incrementAndGet() > limit) {
+            rejected.increment();
+            throw new TooManyRequestsException("Demasiados intentos, inténtalo de nuevo más tarde", windowSeconds);
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("auth.rate.limited")
+                .description("Peticiones de autenticación rechazadas por límite de intentos")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+}
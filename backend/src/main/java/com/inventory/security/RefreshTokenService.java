@@ -0,0 +1,136 @@
+package com.inventory.security;
+
+import com.inventory.entity.RefreshToken;
+import com.inventory.entity.User;
+import com.inventory.exception.InvalidRefreshTokenException;
+import com.inventory.repository.RefreshTokenRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.refresh-expiration:1209600000}")
+    private long refreshExpirationMs;
+
+    @Value("${jwt.refresh-reuse-grace-ms:30000}")
+    private long reuseGraceMs;
+
+    public String issue(User user) {
+        return create(user, UUID.randomUUID().toString());
+    }
+
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken current = find(rawToken);
+        Instant now = Instant.now();
+        if (current.getRevokedAt() != null || refreshTokenRepository.markUsed(current.getId(), now) == 0) {
+            if (withinReuseGrace(current, now)) {
+                return new Rotation(current.getUser(), create(current.getUser(), current.getFamilyId()));
+            }
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("Reutilización de refresh token detectada para {}, sesión {} revocada",
+                    current.getUser().getUsername(), current.getFamilyId());
+            throw new InvalidRefreshTokenException("Refresh token ya utilizado, inicia sesión de nuevo");
+        }
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new InvalidRefreshTokenException("Refresh token caducado, inicia sesión de nuevo");
+        }
+        User user = current.getUser();
+        if (Boolean.FALSE.equals(user.getEnabled())) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            throw new InvalidRefreshTokenException("Usuario deshabilitado");
+        }
+        return new Rotation(user, create(user, current.getFamilyId()));
+    }
+
+    public void revoke(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return;
+        }
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), Instant.now()));
+    }
+
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.revokeAllByUserId(userId, Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-cleanup-interval-ms:3600000}",
+            initialDelayString = "${jwt.refresh-cleanup-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("Eliminados {} refresh tokens caducados", deleted);
+        }
+    }
+
+    private boolean withinReuseGrace(RefreshToken token, Instant now) {
+        return refreshTokenRepository.wasRotatedSince(token.getId(), now.minusMillis(reuseGraceMs))
+                && refreshTokenRepository.existsByFamilyIdAndRevokedAtIsNull(token.getFamilyId())
+                && !token.getExpiresAt().isBefore(now)
+                && !Boolean.FALSE.equals(token.getUser().getEnabled());
+    }
+
+    private String create(User user, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        Instant now = Instant.now();
+
+        RefreshToken token = new RefreshToken();
+        token.setTokenHash(hash(rawToken));
+        token.setFamilyId(familyId);
+        token.setUser(user);
+        token.setCreatedAt(now);
+        token.setExpiresAt(now.plusMillis(refreshExpirationMs));
+        refreshTokenRepository.save(token);
+        return rawToken;
+    }
+
+    private RefreshToken find(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            throw new InvalidRefreshTokenException("Refresh token requerido");
+        }
+        return refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token inválido"));
+    }
+
+    private String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Rotation {
+        private final User user;
+        private final String refreshToken;
+    }
+}
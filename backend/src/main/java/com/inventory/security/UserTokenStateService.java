@@ -0,0 +1,63 @@
+package com.inventory.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inventory.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Service
+public class UserTokenStateService {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Optional<TokenState>> states;
+
+    public UserTokenStateService(UserRepository userRepository,
+                                 @Value("${jwt.user-cache.ttl-seconds:30}") long ttlSeconds,
+                                 @Value("${jwt.user-cache.max-size:10000}") long maxSize,
+                                 MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.states = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, states, "jwtUserState",
+                "cache.manager", "jwt", "name", "jwtUserState");
+    }
+
+    public boolean isTokenValid(String username, int tokenVersion) {
+        return getState(username)
+                .map(state -> state.isEnabled() && state.getVersion() == tokenVersion)
+                .orElse(false);
+    }
+
+    public int getTokenVersion(String username) {
+        return getState(username).map(TokenState::getVersion).orElse(0);
+    }
+
+    public void evict(String username) {
+        states.invalidate(username);
+    }
+
+    private Optional<TokenState> getState(String username) {
+        return states.get(username, key -> userRepository.findTokenStateByUsername(key)
+                .map(state -> new TokenState(
+                        !Boolean.FALSE.equals(state.getEnabled()),
+                        state.getTokenVersion() != null ? state.getTokenVersion() : 0)));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class TokenState {
+        private final boolean enabled;
+        private final int version;
+    }
+}
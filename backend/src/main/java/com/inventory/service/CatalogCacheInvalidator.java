@@ -0,0 +1,36 @@
+package com.inventory.service;
+
+import com.inventory.config.CacheConfig;
+import com.inventory.event.CatalogResetEvent;
+import com.inventory.event.IngredientChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class CatalogCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final ProductCostEngine costEngine;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIngredientChanged(IngredientChangedEvent event) {
+        Cache products = cacheManager.getCache(CacheConfig.PRODUCT);
+        if (products != null) {
+            costEngine.getDependentProducts(event.getIngredientId()).forEach(products::evict);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogReset(CatalogResetEvent event) {
+        cacheManager.getCacheNames().forEach(name -> {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        });
+    }
+}
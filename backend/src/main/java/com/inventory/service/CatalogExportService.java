@@ -0,0 +1,130 @@
+package com.inventory.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.repository.CatalogExportRepository;
+import com.inventory.repository.ProductExportRow;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class CatalogExportService {
+
+    private static final String CSV_HEADER = "product_id,product_name,description,price,stock,calculated_cost,"
+            + "ingredient_id,ingredient_name,quantity,unit,ingredient_cost_price";
+
+    private final CatalogExportRepository catalogExportRepository;
+    private final ProductCostEngine costEngine;
+    private final ObjectMapper objectMapper;
+
+    @Getter
+    @Value("${catalog.export.timeout-ms:600000}")
+    private long timeoutMs;
+
+    public void exportNdjson(OutputStream output) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+             Stream<ProductExportRow> rows = catalogExportRepository.streamExportRows()) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+
+            Long currentId = null;
+            Iterator<ProductExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ProductExportRow row = iterator.next();
+                if (!Objects.equals(row.getProductId(), currentId)) {
+                    if (currentId != null) {
+                        generator.writeEndArray();
+                        generator.writeEndObject();
+                    }
+                    currentId = row.getProductId();
+                    writeProduct(generator, row);
+                    generator.writeArrayFieldStart("recipes");
+                }
+                if (row.getIngredientId() != null) {
+                    generator.writeStartObject();
+                    generator.writeNumberField("ingredientId", row.getIngredientId());
+                    generator.writeStringField("ingredientName", row.getIngredientName());
+                    generator.writeObjectField("quantity", row.getQuantity());
+                    generator.writeStringField("unit", row.getUnit());
+                    generator.writeObjectField("costPrice", row.getCostPrice());
+                    generator.writeEndObject();
+                }
+            }
+            if (currentId != null) {
+                generator.writeEndArray();
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    public void exportCsv(OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        try (Stream<ProductExportRow> rows = catalogExportRepository.streamExportRows()) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            rows.forEach(row -> writeCsvRow(writer, row));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeProduct(JsonGenerator generator, ProductExportRow row) throws IOException {
+        Double cost = costEngine.getCost(row.getProductId());
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.getProductId());
+        generator.writeStringField("name", row.getProductName());
+        generator.writeStringField("description", row.getDescription());
+        generator.writeObjectField("price", row.getPrice());
+        generator.writeObjectField("stock", row.getStock());
+        generator.writeObjectField("calculatedCost", cost);
+        generator.writeObjectField("profitMargin", cost != null && row.getPrice() != null ? row.getPrice() - cost : null);
+    }
+
+    private void writeCsvRow(Writer writer, ProductExportRow row) {
+        try {
+            writer.write(String.join(",",
+                    csv(row.getProductId()),
+                    csv(row.getProductName()),
+                    csv(row.getDescription()),
+                    csv(row.getPrice()),
+                    csv(row.getStock()),
+                    csv(costEngine.getCost(row.getProductId())),
+                    csv(row.getIngredientId()),
+                    csv(row.getIngredientName()),
+                    csv(row.getQuantity()),
+                    csv(row.getUnit()),
+                    csv(row.getCostPrice())));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -0,0 +1,187 @@
+package com.inventory.service;
+
+import com.inventory.dto.CatalogGenerationRequest;
+import com.inventory.dto.CatalogGenerationResult;
+import com.inventory.event.CatalogResetEvent;
+import com.inventory.repository.CatalogBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogGenerator {
+
+    private static final int BATCH_SIZE = 5000;
+    private static final int MAX_ROWS = 10_000_000;
+    private static final int MAX_RECIPE_SIZE = 100;
+    private static final long MAX_RECIPE_LINES = 50_000_000L;
+    private static final String[] UNITS = {"kg", "L", "unidad"};
+
+    private final CatalogBulkRepository bulkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CatalogGenerationResult generate(CatalogGenerationRequest request) {
+        validate(request);
+        try {
+            return populate(request);
+        } finally {
+            eventPublisher.publishEvent(new CatalogResetEvent());
+        }
+    }
+
+    private CatalogGenerationResult populate(CatalogGenerationRequest request) {
+        long start = System.currentTimeMillis();
+        Random random = new Random(request.getSeed());
+        Timestamp now = Timestamp.from(Instant.now());
+        String prefix = request.getNamePrefix() != null && !request.getNamePrefix().isBlank()
+                ? request.getNamePrefix().trim() : "Sintético";
+
+        int ingredientCount = request.getIngredients();
+        long firstIngredientId = bulkRepository.reserveIngredientIds(ingredientCount);
+        double[] prices = new double[ingredientCount];
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < ingredientCount; i++) {
+            prices[i] = round(Math.exp(random.nextGaussian() * 0.8 + 1), 2);
+            rows.add(new Object[]{firstIngredientId + i, prefix + " ingrediente " + (i + 1), prices[i],
+                    round(random.nextDouble() * 1000, 2), UNITS[random.nextInt(UNITS.length)], now});
+            if (rows.size() == BATCH_SIZE) {
+                bulkRepository.insertIngredients(rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            bulkRepository.insertIngredients(rows);
+            rows.clear();
+        }
+
+        int productCount = request.getProducts();
+        int[] recipeSizes = new int[productCount];
+        int maxRecipeSize = Math.min(request.getMaxRecipeSize(), ingredientCount);
+        int minRecipeSize = Math.min(request.getMinRecipeSize(), maxRecipeSize);
+        for (int i = 0; i < productCount; i++) {
+            recipeSizes[i] = minRecipeSize + random.nextInt(maxRecipeSize - minRecipeSize + 1);
+        }
+        long recipeLineCount = Arrays.stream(recipeSizes).asLongStream().sum();
+        long firstProductId = productCount > 0 ? bulkRepository.reserveProductIds(productCount) : 0;
+        long nextRecipeId = recipeLineCount > 0 ? bulkRepository.reserveRecipeIds(recipeLineCount) : 0;
+
+        IngredientPicker picker = new IngredientPicker(ingredientCount, request.getPopularitySkew());
+        List<Object[]> lines = new ArrayList<>(BATCH_SIZE * maxRecipeSize);
+        for (int i = 0; i < productCount; i++) {
+            long productId = firstProductId + i;
+            double cost = 0;
+            for (int ingredient : picker.pick(random, recipeSizes[i])) {
+                double quantity = round(0.01 + random.nextDouble() * 2, 3);
+                cost += prices[ingredient] * quantity;
+                lines.add(new Object[]{nextRecipeId++, productId, firstIngredientId + ingredient, quantity});
+            }
+            double price = round(Math.max(cost, 0.5) * (1.5 + random.nextDouble() * 2.5), 2);
+            rows.add(new Object[]{productId, prefix + " producto " + (i + 1),
+                    "Producto generado " + (i + 1) + " (semilla " + request.getSeed() + ")",
+                    price, random.nextInt(100), now});
+            if (rows.size() == BATCH_SIZE) {
+                flushProducts(rows, lines);
+            }
+        }
+        if (!rows.isEmpty()) {
+            flushProducts(rows, lines);
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("Catálogo sintético generado: {} ingredientes, {} productos, {} líneas de receta en {} ms",
+                ingredientCount, productCount, recipeLineCount, elapsed);
+        return new CatalogGenerationResult(ingredientCount, productCount, recipeLineCount,
+                ingredientCount > 0 ? firstIngredientId : null,
+                ingredientCount > 0 ? firstIngredientId + ingredientCount - 1 : null,
+                productCount > 0 ? firstProductId : null,
+                productCount > 0 ? firstProductId + productCount - 1 : null,
+                elapsed);
+    }
+
+    private void flushProducts(List<Object[]> products, List<Object[]> lines) {
+        bulkRepository.insertProducts(products);
+        products.clear();
+        for (int from = 0; from < lines.size(); from += BATCH_SIZE) {
+            bulkRepository.insertRecipeLines(lines.subList(from, Math.min(from + BATCH_SIZE, lines.size())));
+        }
+        lines.clear();
+    }
+
+    private void validate(CatalogGenerationRequest request) {
+        if (request.getIngredients() < 0 || request.getProducts() < 0) {
+            throw new RuntimeException("Las cantidades a generar no pueden ser negativas");
+        }
+        if (request.getIngredients() > MAX_ROWS || request.getProducts() > MAX_ROWS) {
+            throw new RuntimeException("No se pueden generar más de " + MAX_ROWS + " filas por tabla");
+        }
+        if (request.getProducts() > 0 && request.getIngredients() == 0) {
+            throw new RuntimeException("Se necesita al menos un ingrediente para generar productos");
+        }
+        if (request.getMinRecipeSize() < 1 || request.getMaxRecipeSize() < request.getMinRecipeSize()) {
+            throw new RuntimeException("El tamaño de receta debe cumplir 1 <= mínimo <= máximo");
+        }
+        if (request.getMaxRecipeSize() > MAX_RECIPE_SIZE) {
+            throw new RuntimeException("Una receta no puede tener más de " + MAX_RECIPE_SIZE + " ingredientes");
+        }
+        if ((long) request.getProducts() * Math.min(request.getMaxRecipeSize(), request.getIngredients()) > MAX_RECIPE_LINES) {
+            throw new RuntimeException("No se pueden generar más de " + MAX_RECIPE_LINES + " líneas de receta");
+        }
+        if (request.getPopularitySkew() < 0) {
+            throw new RuntimeException("El sesgo de popularidad no puede ser negativo");
+        }
+    }
+
+    private static double round(double value, int decimals) {
+        double scale = Math.pow(10, decimals);
+        return Math.round(value * scale) / scale;
+    }
+
+    private static final class IngredientPicker {
+
+        private final int count;
+        private final double[] cumulative;
+
+        IngredientPicker(int count, double skew) {
+            this.count = count;
+            if (skew == 0) {
+                cumulative = null;
+                return;
+            }
+            cumulative = new double[count];
+            double total = 0;
+            for (int i = 0; i < count; i++) {
+                total += 1 / Math.pow(i + 1, skew);
+                cumulative[i] = total;
+            }
+        }
+
+        Set<Integer> pick(Random random, int size) {
+            Set<Integer> picked = new LinkedHashSet<>();
+            int attempts = 0;
+            while (picked.size() < size) {
+                picked.add(attempts++ < size * 20 ? next(random) : random.nextInt(count));
+            }
+            return picked;
+        }
+
+        private int next(Random random) {
+            if (cumulative == null) {
+                return random.nextInt(count);
+            }
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * cumulative[count - 1]);
+            return Math.min(index >= 0 ? index : -index - 1, count - 1);
+        }
+    }
+}
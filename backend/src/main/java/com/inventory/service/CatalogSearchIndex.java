@@ -0,0 +1,545 @@
+package com.inventory.service;
+
+import com.inventory.config.ReadWriteRoutingDataSource;
+import com.inventory.dto.SearchResult;
+import com.inventory.entity.Ingredient;
+import com.inventory.entity.Product;
+import com.inventory.event.CatalogResetEvent;
+import com.inventory.event.IngredientChangedEvent;
+import com.inventory.event.ProductChangedEvent;
+import com.inventory.repository.IngredientRepository;
+import com.inventory.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogSearchIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double NAME_WEIGHT = 1.0;
+    private static final double DESCRIPTION_WEIGHT = 0.4;
+    private static final double EXACT_MATCH = 1.0;
+    private static final double PREFIX_MATCH = 0.8;
+    private static final double FUZZY_MATCH = 0.6;
+    private static final int MAX_PREFIX_EXPANSIONS = 500;
+    private static final int MAX_RESULTS = 100;
+    private static final Comparator<String> NAME_ORDER = Comparator.nullsLast(String::compareToIgnoreCase);
+    private static final Comparator<SearchResult> RANKING = Comparator.comparingDouble(SearchResult::getScore).reversed()
+            .thenComparing(SearchResult::getName, NAME_ORDER);
+    private static final Comparator<Ranked> RANKED_ORDER = Comparator.comparingDouble(Ranked::getWeight).reversed()
+            .thenComparing(ranked -> ranked.getDocument().getName(), NAME_ORDER)
+            .thenComparing(ranked -> ranked.getDocument().getKey().getType())
+            .thenComparing(ranked -> ranked.getDocument().getKey().getId());
+    private static final Comparator<Cursor> CURSOR_ORDER = Comparator.comparingDouble(Cursor::score).reversed()
+            .thenComparing(cursor -> cursor.getCurrent().getDocument().getName(), NAME_ORDER);
+
+    private final ProductRepository productRepository;
+    private final IngredientRepository ingredientRepository;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-search-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Index index;
+    private List<Consumer<Index>> pending;
+    private CompletableFuture<Void> scheduled;
+
+    public List<SearchResult> search(String query, SearchResult.Type type, int limit) {
+        Index current = index != null ? index : awaitInitialLoad();
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        int size = Math.max(1, Math.min(limit, MAX_RESULTS));
+        if (tokens.size() == 1) {
+            return current.top(current.expand(tokens.get(0)), type, size);
+        }
+
+        List<Map<String, Double>> expansions = new ArrayList<>();
+        for (String token : tokens) {
+            expansions.add(current.expand(token));
+        }
+        expansions.sort(Comparator.comparingLong(current::postingCount));
+
+        Map<DocumentKey, Double> scores = current.score(expansions.get(0));
+        for (int i = 1; i < expansions.size() && !scores.isEmpty(); i++) {
+            scores = current.intersect(scores, expansions.get(i));
+        }
+        if (scores.isEmpty()) {
+            return List.of();
+        }
+
+        PriorityQueue<SearchResult> top = new PriorityQueue<>(size + 1, RANKING.reversed());
+        for (Map.Entry<DocumentKey, Double> entry : scores.entrySet()) {
+            double score = entry.getValue() / tokens.size();
+            if (top.size() == size && score < top.peek().getScore()) {
+                continue;
+            }
+            Document document = current.documents.get(entry.getKey());
+            if (document == null || (type != null && document.getKey().getType() != type)) {
+                continue;
+            }
+            if (top.size() == size && score == top.peek().getScore()
+                    && NAME_ORDER.compare(document.getName(), top.peek().getName()) >= 0) {
+                continue;
+            }
+            top.add(new SearchResult(document.getKey().getType(), document.getKey().getId(), document.getName(), score));
+            if (top.size() > size) {
+                top.poll();
+            }
+        }
+        List<SearchResult> results = new ArrayList<>(top);
+        results.sort(RANKING);
+        return results;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        DocumentKey key = new DocumentKey(SearchResult.Type.PRODUCT, event.getProductId());
+        if (event.isDeleted()) {
+            apply(current -> current.remove(key));
+        } else {
+            apply(current -> current.add(key, event.getName(), event.getDescription()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIngredientChanged(IngredientChangedEvent event) {
+        DocumentKey key = new DocumentKey(SearchResult.Type.INGREDIENT, event.getIngredientId());
+        if (event.isDeleted()) {
+            apply(current -> current.remove(key));
+        } else {
+            apply(current -> current.add(key, event.getName(), null));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogReset(CatalogResetEvent event) {
+        scheduleRebuild();
+    }
+
+    public CompletableFuture<Void> scheduleRebuild() {
+        lock.lock();
+        try {
+            if (index == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if (scheduled == null) {
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                scheduled = future;
+                rebuilder.execute(() -> runScheduledRebuild(future));
+            }
+            return scheduled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private void runScheduledRebuild(CompletableFuture<Void> future) {
+        lock.lock();
+        try {
+            scheduled = null;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            rebuildLock.lock();
+            try {
+                rebuild();
+            } finally {
+                rebuildLock.unlock();
+            }
+            future.complete(null);
+        } catch (RuntimeException e) {
+            log.warn("No se pudo reconstruir el índice de búsqueda, se mantiene el anterior: {}", e.getMessage());
+            future.completeExceptionally(e);
+        }
+    }
+
+    private void apply(Consumer<Index> change) {
+        lock.lock();
+        try {
+            if (index != null) {
+                change.accept(index);
+            }
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Index awaitInitialLoad() {
+        rebuildLock.lock();
+        try {
+            if (index == null) {
+                rebuild();
+            }
+            return index;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuild() {
+        lock.lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+        Index fresh = new Index();
+        try {
+            ReadWriteRoutingDataSource.withPrimary(() -> {
+                for (Product product : productRepository.findAll()) {
+                    fresh.add(new DocumentKey(SearchResult.Type.PRODUCT, product.getId()), product.getName(),
+                            product.getDescription());
+                }
+                for (Ingredient ingredient : ingredientRepository.findAll()) {
+                    fresh.add(new DocumentKey(SearchResult.Type.INGREDIENT, ingredient.getId()), ingredient.getName(), null);
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                pending = null;
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+        lock.lock();
+        try {
+            pending.forEach(change -> change.accept(fresh));
+            pending = null;
+            index = fresh;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded.toLowerCase())) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Set<String> trigramsOf(String word) {
+        String padded = "  " + word + " ";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private static boolean withinDistance(String a, String b, int maxDistance) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxDistance) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()] <= maxDistance;
+    }
+
+    private static class Index {
+        private final Map<DocumentKey, Document> documents = new ConcurrentHashMap<>();
+        private final NavigableMap<String, Posting> postings = new ConcurrentSkipListMap<>();
+        private final Map<String, Set<String>> trigrams = new ConcurrentHashMap<>();
+
+        Map<String, Double> expand(String token) {
+            Map<String, Double> words = new HashMap<>();
+            if (postings.containsKey(token)) {
+                words.put(token, EXACT_MATCH);
+            }
+            int expansions = 0;
+            for (String word : postings.subMap(token, false, token + Character.MAX_VALUE, false).keySet()) {
+                if (++expansions > MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                words.putIfAbsent(word, PREFIX_MATCH);
+            }
+            int maxDistance = token.length() >= 8 ? 2 : token.length() >= 4 ? 1 : 0;
+            if (maxDistance > 0) {
+                for (String word : fuzzyCandidates(token, maxDistance)) {
+                    if (!words.containsKey(word) && withinDistance(token, word, maxDistance)) {
+                        words.put(word, FUZZY_MATCH);
+                    }
+                }
+            }
+            return words;
+        }
+
+        long postingCount(Map<String, Double> words) {
+            long count = 0;
+            for (String word : words.keySet()) {
+                Posting posting = postings.get(word);
+                if (posting != null) {
+                    count += posting.getWeights().size();
+                }
+            }
+            return count;
+        }
+
+        List<SearchResult> top(Map<String, Double> words, SearchResult.Type type, int size) {
+            PriorityQueue<Cursor> heads = new PriorityQueue<>(Math.max(1, words.size()), CURSOR_ORDER);
+            words.forEach((word, quality) -> {
+                Posting posting = postings.get(word);
+                if (posting != null) {
+                    Cursor cursor = new Cursor(quality, posting.getRanked().iterator());
+                    if (cursor.advance()) {
+                        heads.add(cursor);
+                    }
+                }
+            });
+            Set<DocumentKey> seen = heads.size() > 1 ? new HashSet<>() : null;
+            List<SearchResult> results = new ArrayList<>(size);
+            while (results.size() < size && !heads.isEmpty()) {
+                Cursor cursor = heads.poll();
+                Document document = cursor.getCurrent().getDocument();
+                DocumentKey key = document.getKey();
+                if ((seen == null || seen.add(key)) && (type == null || key.getType() == type)) {
+                    results.add(new SearchResult(key.getType(), key.getId(), document.getName(), cursor.score()));
+                }
+                if (cursor.advance()) {
+                    heads.add(cursor);
+                }
+            }
+            return results;
+        }
+
+        Map<DocumentKey, Double> score(Map<String, Double> words) {
+            if (words.size() == 1 && words.containsValue(EXACT_MATCH)) {
+                Posting posting = postings.get(words.keySet().iterator().next());
+                return posting != null ? posting.getWeights() : Map.of();
+            }
+            Map<DocumentKey, Double> matches = new HashMap<>((int) (postingCount(words) / 0.75) + 1);
+            words.forEach((word, quality) -> {
+                Posting posting = postings.get(word);
+                if (posting != null) {
+                    posting.getWeights().forEach((key, weight) -> matches.merge(key, quality * weight, Math::max));
+                }
+            });
+            return matches;
+        }
+
+        Map<DocumentKey, Double> intersect(Map<DocumentKey, Double> scores, Map<String, Double> words) {
+            Map<DocumentKey, Double> combined = new HashMap<>();
+            if ((long) scores.size() * words.size() > postingCount(words)) {
+                Map<DocumentKey, Double> matches = score(words);
+                scores.forEach((key, score) -> {
+                    Double match = matches.get(key);
+                    if (match != null) {
+                        combined.put(key, score + match);
+                    }
+                });
+                return combined;
+            }
+            List<Map<DocumentKey, Double>> weights = new ArrayList<>();
+            List<Double> qualities = new ArrayList<>();
+            words.forEach((word, quality) -> {
+                Posting posting = postings.get(word);
+                if (posting != null) {
+                    weights.add(posting.getWeights());
+                    qualities.add(quality);
+                }
+            });
+            scores.forEach((key, score) -> {
+                double best = 0;
+                for (int i = 0; i < weights.size(); i++) {
+                    Double weight = weights.get(i).get(key);
+                    if (weight != null) {
+                        best = Math.max(best, qualities.get(i) * weight);
+                    }
+                }
+                if (best > 0) {
+                    combined.put(key, score + best);
+                }
+            });
+            return combined;
+        }
+
+        private Set<String> fuzzyCandidates(String token, int maxDistance) {
+            Set<String> grams = trigramsOf(token);
+            int required = Math.max(1, grams.size() - 3 * maxDistance);
+            Map<String, Integer> shared = new HashMap<>();
+            for (String gram : grams) {
+                Set<String> words = trigrams.get(gram);
+                if (words != null) {
+                    words.forEach(word -> shared.merge(word, 1, Integer::sum));
+                }
+            }
+            Set<String> candidates = new HashSet<>();
+            shared.forEach((word, count) -> {
+                if (count >= required && Math.abs(word.length() - token.length()) <= maxDistance) {
+                    candidates.add(word);
+                }
+            });
+            return candidates;
+        }
+
+        void add(DocumentKey key, String name, String description) {
+            Map<String, Double> terms = new HashMap<>();
+            tokenize(description).forEach(term -> terms.merge(term, DESCRIPTION_WEIGHT, Math::max));
+            tokenize(name).forEach(term -> terms.merge(term, NAME_WEIGHT, Math::max));
+            Document document = new Document(key, name, terms);
+            Document previous = documents.put(key, document);
+            if (previous != null) {
+                unlink(previous, terms.keySet());
+            }
+            terms.forEach((term, weight) -> postings.computeIfAbsent(term, t -> {
+                trigramsOf(t).forEach(gram -> trigrams.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(t));
+                return new Posting();
+            }).link(document, weight));
+        }
+
+        void remove(DocumentKey key) {
+            Document previous = documents.remove(key);
+            if (previous != null) {
+                unlink(previous, Set.of());
+            }
+        }
+
+        private void unlink(Document previous, Set<String> kept) {
+            previous.getTerms().forEach((term, weight) -> {
+                Posting posting = postings.get(term);
+                if (posting == null) {
+                    return;
+                }
+                posting.unlink(previous, weight);
+                if (kept.contains(term) || !posting.getWeights().isEmpty()) {
+                    return;
+                }
+                postings.remove(term);
+                for (String gram : trigramsOf(term)) {
+                    Set<String> words = trigrams.get(gram);
+                    if (words != null) {
+                        words.remove(term);
+                        if (words.isEmpty()) {
+                            trigrams.remove(gram);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    @Getter
+    private static class Posting {
+        private final Map<DocumentKey, Double> weights = new ConcurrentHashMap<>();
+        private final NavigableSet<Ranked> ranked = new ConcurrentSkipListSet<>(RANKED_ORDER);
+
+        void link(Document document, double weight) {
+            weights.put(document.getKey(), weight);
+            ranked.add(new Ranked(document, weight));
+        }
+
+        void unlink(Document document, double weight) {
+            weights.remove(document.getKey());
+            ranked.remove(new Ranked(document, weight));
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Ranked {
+        private final Document document;
+        private final double weight;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Cursor {
+        private final double quality;
+        private final Iterator<Ranked> remaining;
+        private Ranked current;
+
+        boolean advance() {
+            current = remaining.hasNext() ? remaining.next() : null;
+            return current != null;
+        }
+
+        double score() {
+            return quality * current.getWeight();
+        }
+    }
+
+    @Getter
+    @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
+    @RequiredArgsConstructor
+    private static class DocumentKey {
+        private final SearchResult.Type type;
+        private final Long id;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Document {
+        private final DocumentKey key;
+        private final String name;
+        private final Map<String, Double> terms;
+    }
+}
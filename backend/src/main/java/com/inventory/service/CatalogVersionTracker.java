@@ -0,0 +1,41 @@
+package com.inventory.service;
+
+import com.inventory.event.CatalogResetEvent;
+import com.inventory.event.IngredientChangedEvent;
+import com.inventory.event.ProductChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class CatalogVersionTracker {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong productVersion = new AtomicLong();
+    private final AtomicLong ingredientVersion = new AtomicLong();
+
+    public String getProductsETag() {
+        return "W/\"p-" + epoch + "-" + productVersion.get() + "-" + ingredientVersion.get() + "\"";
+    }
+
+    public String getIngredientsETag() {
+        return "W/\"i-" + epoch + "-" + ingredientVersion.get() + "\"";
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        productVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIngredientChanged(IngredientChangedEvent event) {
+        ingredientVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogReset(CatalogResetEvent event) {
+        productVersion.incrementAndGet();
+        ingredientVersion.incrementAndGet();
+    }
+}
@@ -0,0 +1,353 @@
+package com.inventory.service;
+
+import com.inventory.config.CacheConfig;
+import com.inventory.dto.BulkImportResult;
+import com.inventory.entity.Ingredient;
+import com.inventory.entity.StockMovement;
+import com.inventory.entity.StockMovement.ItemType;
+import com.inventory.entity.StockMovement.MovementType;
+import com.inventory.event.IngredientChangedEvent;
+import com.inventory.repository.IngredientRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class IngredientImportService {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "costprice", "currentstock", "unit");
+
+    private final IngredientRepository ingredientRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StockLedgerService stockLedgerService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public IngredientImportService(IngredientRepository ingredientRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   StockLedgerService stockLedgerService,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${ingredients.import.chunk-size:500}") int chunkSize) {
+        this.ingredientRepository = ingredientRepository;
+        this.eventPublisher = eventPublisher;
+        this.stockLedgerService = stockLedgerService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @CacheEvict(cacheNames = {CacheConfig.INGREDIENTS, CacheConfig.INGREDIENT}, allEntries = true)
+    public BulkImportResult importIngredients(List<Ingredient> ingredients) {
+        List<ImportRow> rows = new ArrayList<>(ingredients.size());
+        for (int i = 0; i < ingredients.size(); i++) {
+            Ingredient ingredient = ingredients.get(i);
+            rows.add(ingredient != null
+                    ? new ImportRow(i + 1, ingredient, null)
+                    : new ImportRow(i + 1, null, "Fila vacía"));
+        }
+        return importRows(rows.iterator());
+    }
+
+    @CacheEvict(cacheNames = {CacheConfig.INGREDIENTS, CacheConfig.INGREDIENT}, allEntries = true)
+    public BulkImportResult importCsv(InputStream input) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        try {
+            return importRows(new CsvRowIterator(reader));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private BulkImportResult importRows(Iterator<ImportRow> rows) {
+        BulkImportResult result = new BulkImportResult();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        while (rows.hasNext()) {
+            ImportRow row = rows.next();
+            String error = row.getError() != null ? row.getError() : validate(row.getIngredient());
+            if (error != null) {
+                fail(result, row.getRow(), error);
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, result);
+        }
+        result.getErrors().sort(Comparator.comparingInt(BulkImportResult.BulkImportError::getRow));
+        return result;
+    }
+
+    private void importChunk(List<ImportRow> chunk, BulkImportResult result) {
+        try {
+            merge(result, transactionTemplate.execute(status -> upsert(chunk)));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Error importando un bloque de {} ingredientes, reintentando fila a fila: {}",
+                    chunk.size(), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            for (ImportRow row : chunk) {
+                try {
+                    merge(result, transactionTemplate.execute(status -> upsert(List.of(row))));
+                } catch (DataAccessException | TransactionException rowError) {
+                    fail(result, row.getRow(), NestedExceptionUtils.getMostSpecificCause(rowError).getMessage());
+                }
+            }
+        }
+    }
+
+    private BulkImportResult upsert(List<ImportRow> chunk) {
+        BulkImportResult outcome = new BulkImportResult();
+
+        Set<Long> ids = chunk.stream()
+                .map(row -> row.getIngredient().getId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> names = chunk.stream()
+                .filter(row -> row.getIngredient().getId() == null)
+                .map(row -> row.getIngredient().getName())
+                .collect(Collectors.toSet());
+
+        Map<Long, Ingredient> byId = ids.isEmpty() ? new HashMap<>() : ingredientRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Ingredient::getId, Function.identity()));
+        Map<String, Ingredient> byName = names.isEmpty() ? new HashMap<>() : ingredientRepository.findByNameIn(names).stream()
+                .collect(Collectors.toMap(Ingredient::getName, Function.identity(), (first, second) -> first, HashMap::new));
+
+        Set<Ingredient> toSave = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<Ingredient, Double> stockDeltas = new IdentityHashMap<>();
+        for (ImportRow row : chunk) {
+            Ingredient incoming = row.getIngredient();
+            Ingredient target;
+            if (incoming.getId() != null) {
+                target = byId.get(incoming.getId());
+                if (target == null) {
+                    fail(outcome, row.getRow(), "Ingrediente no encontrado: " + incoming.getId());
+                    continue;
+                }
+                outcome.setUpdated(outcome.getUpdated() + 1);
+            } else {
+                target = byName.get(incoming.getName());
+                if (target == null) {
+                    target = new Ingredient();
+                    byName.put(incoming.getName(), target);
+                    outcome.setCreated(outcome.getCreated() + 1);
+                } else {
+                    outcome.setUpdated(outcome.getUpdated() + 1);
+                }
+            }
+            double previousStock = target.getCurrentStock() != null ? target.getCurrentStock() : 0;
+            stockDeltas.merge(target, incoming.getCurrentStock() - previousStock, Double::sum);
+            target.setName(incoming.getName());
+            target.setCostPrice(incoming.getCostPrice());
+            target.setCurrentStock(incoming.getCurrentStock());
+            target.setUnit(incoming.getUnit());
+            toSave.add(target);
+        }
+
+        List<Ingredient> saved = ingredientRepository.saveAll(toSave);
+        ingredientRepository.flush();
+        List<StockMovement> movements = new ArrayList<>(stockDeltas.size());
+        stockDeltas.forEach((ingredient, delta) -> movements.add(
+                StockLedgerService.movement(ItemType.INGREDIENT, ingredient.getId(), MovementType.ADJUSTMENT, delta)));
+        stockLedgerService.record(movements);
+        saved.forEach(ingredient -> eventPublisher.publishEvent(IngredientChangedEvent.of(ingredient)));
+        return outcome;
+    }
+
+    private String validate(Ingredient ingredient) {
+        if (ingredient.getName() == null || ingredient.getName().isBlank()) {
+            return "El nombre es obligatorio";
+        }
+        if (ingredient.getName().length() > 100) {
+            return "El nombre no puede superar los 100 caracteres";
+        }
+        if (ingredient.getCostPrice() == null || ingredient.getCostPrice() < 0) {
+            return "El precio de coste debe ser un número positivo";
+        }
+        if (ingredient.getCurrentStock() == null || ingredient.getCurrentStock() < 0) {
+            return "El stock debe ser un número positivo";
+        }
+        if (ingredient.getUnit() == null || ingredient.getUnit().isBlank()) {
+            return "La unidad es obligatoria";
+        }
+        if (ingredient.getUnit().length() > 20) {
+            return "La unidad no puede superar los 20 caracteres";
+        }
+        return null;
+    }
+
+    private void merge(BulkImportResult result, BulkImportResult outcome) {
+        result.setCreated(result.getCreated() + outcome.getCreated());
+        result.setUpdated(result.getUpdated() + outcome.getUpdated());
+        result.setFailed(result.getFailed() + outcome.getFailed());
+        result.getErrors().addAll(outcome.getErrors());
+    }
+
+    private void fail(BulkImportResult result, int row, String message) {
+        result.setFailed(result.getFailed() + 1);
+        result.getErrors().add(new BulkImportResult.BulkImportError(row, message));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ImportRow {
+        private final int row;
+        private final Ingredient ingredient;
+        private final String error;
+    }
+
+    private static class CsvRowIterator implements Iterator<ImportRow> {
+
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private char delimiter = ',';
+        private int rowNumber;
+        private ImportRow next;
+
+        CsvRowIterator(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            readHeader();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = readRow();
+            }
+            return next != null;
+        }
+
+        @Override
+        public ImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ImportRow row = next;
+            next = null;
+            return row;
+        }
+
+        private void readHeader() throws IOException {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new RuntimeException("El fichero CSV está vacío");
+            }
+            if (header.startsWith("\uFEFF")) {
+                header = header.substring(1);
+            }
+            if (header.indexOf(';') >= 0 && header.indexOf(',') < 0) {
+                delimiter = ';';
+            }
+            List<String> names = split(header);
+            for (int i = 0; i < names.size(); i++) {
+                columns.put(names.get(i).trim().toLowerCase().replace("_", "").replace(" ", ""), i);
+            }
+            for (String required : REQUIRED_COLUMNS) {
+                if (!columns.containsKey(required)) {
+                    throw new RuntimeException("Cabecera CSV no válida: falta la columna " + required);
+                }
+            }
+        }
+
+        private ImportRow readRow() {
+            try {
+                String line;
+                do {
+                    line = reader.readLine();
+                    if (line == null) {
+                        return null;
+                    }
+                } while (line.isBlank());
+                rowNumber++;
+                List<String> values = split(line);
+                try {
+                    Ingredient ingredient = new Ingredient();
+                    String id = value(values, "id");
+                    ingredient.setId(id != null ? Long.valueOf(id) : null);
+                    ingredient.setName(value(values, "name"));
+                    String costPrice = value(values, "costprice");
+                    ingredient.setCostPrice(costPrice != null ? Double.valueOf(decimal(costPrice)) : null);
+                    String currentStock = value(values, "currentstock");
+                    ingredient.setCurrentStock(currentStock != null ? Double.valueOf(decimal(currentStock)) : null);
+                    ingredient.setUnit(value(values, "unit"));
+                    return new ImportRow(rowNumber, ingredient, null);
+                } catch (NumberFormatException e) {
+                    return new ImportRow(rowNumber, null, "Valor numérico no válido: " + e.getMessage());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private String value(List<String> values, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private String decimal(String value) {
+            return delimiter == ';' ? value.replace(',', '.') : value;
+        }
+
+        private List<String> split(String line) {
+            List<String> values = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == delimiter) {
+                    values.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            values.add(current.toString());
+            return values;
+        }
+    }
+}
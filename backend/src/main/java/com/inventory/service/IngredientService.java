@@ -1,35 +1,167 @@
 package com.inventory.service;
 
+import com.inventory.config.CacheConfig;
+import com.inventory.config.ReadFromPrimary;
+import com.inventory.dto.IngredientFilter;
+import com.inventory.dto.PageResponse;
 import com.inventory.entity.Ingredient;
+import com.inventory.entity.StockMovement.ItemType;
+import com.inventory.entity.StockMovement.MovementType;
+import com.inventory.event.IngredientChangedEvent;
+import com.inventory.exception.InsufficientStockException;
 import com.inventory.repository.IngredientRepository;
+import com.inventory.repository.KeysetCursor;
+import com.inventory.repository.StockRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class IngredientService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final IngredientRepository ingredientRepository;
+    private final StockRepository stockRepository;
+    private final StockLedgerService stockLedgerService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @ReadFromPrimary
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.INGREDIENTS, key = "'all'")
     public List<Ingredient> getAllIngredients() {
         return ingredientRepository.findAll();
     }
 
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public PageResponse<Ingredient> getIngredientPage(IngredientFilter filter, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor after = cursor != null && !cursor.isBlank() ? KeysetCursor.decode(cursor, filter.getSort()) : null;
+
+        List<KeysetCursor> keys = ingredientRepository.findPageKeys(filter, after, pageSize + 1);
+        boolean hasNext = keys.size() > pageSize;
+        if (hasNext) {
+            keys = keys.subList(0, pageSize);
+        }
+        if (keys.isEmpty()) {
+            return new PageResponse<>(List.of(), null, false);
+        }
+
+        List<Long> ids = keys.stream().map(KeysetCursor::getId).toList();
+        Map<Long, Ingredient> ingredientsById = ingredientRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Ingredient::getId, Function.identity()));
+        List<Ingredient> content = ids.stream().map(ingredientsById::get).filter(Objects::nonNull).toList();
+
+        String nextCursor = hasNext ? keys.get(keys.size() - 1).encode() : null;
+        return new PageResponse<>(content, nextCursor, hasNext);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.INGREDIENTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.INGREDIENT, key = "#result.id")
+    })
     public Ingredient saveIngredient(Ingredient ingredient) {
-        return ingredientRepository.save(ingredient);
+        Double previousStock = ingredient.getId() != null
+                ? ingredientRepository.findById(ingredient.getId()).map(Ingredient::getCurrentStock).orElse(null)
+                : null;
+        return persist(ingredient, previousStock);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.INGREDIENTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.INGREDIENT, key = "#id")
+    })
+    public Optional<Ingredient> updateIngredient(Long id, Ingredient changes) {
+        return ingredientRepository.findById(id).map(existing -> {
+            Double previousStock = existing.getCurrentStock();
+            existing.setName(changes.getName());
+            existing.setCostPrice(changes.getCostPrice());
+            existing.setCurrentStock(changes.getCurrentStock());
+            existing.setUnit(changes.getUnit());
+            return persist(existing, previousStock);
+        });
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.INGREDIENTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.INGREDIENT, key = "#id")
+    })
+    public Optional<Ingredient> consumeStock(Long id, Double quantity) {
+        validateQuantity(quantity);
+        double amount = StockRepository.normalize(quantity);
+        if (!stockRepository.subtractIngredientStock(new TreeMap<>(Map.of(id, amount))).isEmpty()) {
+            if (!ingredientRepository.existsById(id)) {
+                return Optional.empty();
+            }
+            throw new InsufficientStockException(id);
+        }
+        stockLedgerService.record(List.of(
+                StockLedgerService.movement(ItemType.INGREDIENT, id, MovementType.CONSUMPTION, -amount)));
+        return reload(id);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.INGREDIENTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.INGREDIENT, key = "#id")
+    })
+    public Optional<Ingredient> restock(Long id, Double quantity) {
+        validateQuantity(quantity);
+        if (stockRepository.addIngredientStock(id, quantity) == 0) {
+            return Optional.empty();
+        }
+        stockLedgerService.record(List.of(
+                StockLedgerService.movement(ItemType.INGREDIENT, id, MovementType.RECEIPT, quantity)));
+        return reload(id);
+    }
+
+    @ReadFromPrimary
     @Transactional(readOnly = true)
-    public java.util.Optional<Ingredient> getIngredientById(Long id) {
+    @Cacheable(cacheNames = CacheConfig.INGREDIENT, key = "#id")
+    public Optional<Ingredient> getIngredientById(Long id) {
         return ingredientRepository.findById(id);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.INGREDIENTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.INGREDIENT, key = "#id")
+    })
     public void deleteIngredient(Long id) {
         ingredientRepository.deleteById(id);
+        eventPublisher.publishEvent(IngredientChangedEvent.deleted(id));
+    }
+
+    private Ingredient persist(Ingredient ingredient, Double previousStock) {
+        Ingredient saved = ingredientRepository.save(ingredient);
+        stockLedgerService.recordAdjustment(ItemType.INGREDIENT, saved.getId(), previousStock, saved.getCurrentStock());
+        eventPublisher.publishEvent(IngredientChangedEvent.of(saved));
+        return saved;
+    }
+
+    private Optional<Ingredient> reload(Long id) {
+        return ingredientRepository.findById(id).map(ingredient -> {
+            eventPublisher.publishEvent(IngredientChangedEvent.of(ingredient));
+            return ingredient;
+        });
+    }
+
+    private void validateQuantity(Double quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new RuntimeException("La cantidad debe ser mayor que cero");
+        }
     }
 }
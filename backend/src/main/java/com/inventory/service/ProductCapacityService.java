@@ -0,0 +1,147 @@
+package com.inventory.service;
+
+import com.inventory.config.ReadWriteRoutingDataSource;
+import com.inventory.dto.ProductCapacity;
+import com.inventory.event.CatalogResetEvent;
+import com.inventory.event.IngredientChangedEvent;
+import com.inventory.event.ProductChangedEvent;
+import com.inventory.repository.IngredientRepository;
+import com.inventory.repository.IngredientStock;
+import com.inventory.repository.StockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@RequiredArgsConstructor
+public class ProductCapacityService {
+
+    private final IngredientRepository ingredientRepository;
+    private final ProductCostEngine costEngine;
+
+    private final Map<Long, Double> stocks = new ConcurrentHashMap<>();
+    private final Map<Long, ProductCapacity> capacities = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile boolean loaded;
+
+    public List<ProductCapacity> getCapacities() {
+        ensureLoaded();
+        return capacities.values().stream()
+                .sorted(Comparator.comparing(ProductCapacity::getProductId))
+                .toList();
+    }
+
+    public Optional<ProductCapacity> getCapacity(Long productId) {
+        ensureLoaded();
+        return Optional.ofNullable(capacities.get(productId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIngredientChanged(IngredientChangedEvent event) {
+        lock.lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            Long ingredientId = event.getIngredientId();
+            Double previous = event.isDeleted()
+                    ? stocks.remove(ingredientId)
+                    : stocks.put(ingredientId, toDouble(event.getCurrentStock()));
+            if (!Objects.equals(previous, stocks.get(ingredientId))) {
+                costEngine.getDependentProducts(ingredientId)
+                        .forEach(productId -> recalculate(productId, costEngine.getRecipe(productId)));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        lock.lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            if (event.isDeleted()) {
+                capacities.remove(event.getProductId());
+                return;
+            }
+            recalculate(event.getProductId(), event.getRecipeLines());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogReset(CatalogResetEvent event) {
+        lock.lock();
+        try {
+            loaded = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            load();
+        }
+    }
+
+    private void load() {
+        lock.lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            ReadWriteRoutingDataSource.withPrimary(this::rebuild);
+            loaded = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rebuild() {
+        stocks.clear();
+        capacities.clear();
+        for (IngredientStock stock : ingredientRepository.findAllStocks()) {
+            stocks.put(stock.getId(), toDouble(stock.getCurrentStock()));
+        }
+        for (Long productId : costEngine.getProductIds()) {
+            recalculate(productId, costEngine.getRecipe(productId));
+        }
+    }
+
+    private void recalculate(Long productId, Map<Long, Double> recipe) {
+        Long maxUnits = null;
+        Long bottleneck = null;
+        for (Map.Entry<Long, Double> line : recipe.entrySet()) {
+            Double quantity = line.getValue();
+            if (quantity == null || quantity <= 0) {
+                continue;
+            }
+            double stock = Math.max(stocks.getOrDefault(line.getKey(), 0.0), 0.0);
+            long units = (long) Math.floor(stock / quantity + StockRepository.QUANTITY_TOLERANCE);
+            if (maxUnits == null || units < maxUnits) {
+                maxUnits = units;
+                bottleneck = line.getKey();
+            }
+        }
+        capacities.put(productId, new ProductCapacity(productId, maxUnits, bottleneck));
+    }
+
+    private static double toDouble(Double stock) {
+        return stock != null ? stock : 0.0;
+    }
+}
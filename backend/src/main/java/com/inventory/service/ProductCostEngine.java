@@ -0,0 +1,253 @@
+package com.inventory.service;
+
+import com.inventory.config.ReadWriteRoutingDataSource;
+import com.inventory.event.CatalogResetEvent;
+import com.inventory.event.IngredientChangedEvent;
+import com.inventory.dto.CostSimulation;
+import com.inventory.event.ProductChangedEvent;
+import com.inventory.repository.IngredientPrice;
+import com.inventory.repository.IngredientRepository;
+import com.inventory.repository.ProductRecipeRepository;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.ProductSummary;
+import com.inventory.repository.RecipeLine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@RequiredArgsConstructor
+public class ProductCostEngine {
+
+    private final IngredientRepository ingredientRepository;
+    private final ProductRecipeRepository productRecipeRepository;
+    private final ProductRepository productRepository;
+
+    private final Map<Long, ProductInfo> products = new ConcurrentHashMap<>();
+    private final Map<Long, Double> ingredientPrices = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, Double>> recipes = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> dependents = new ConcurrentHashMap<>();
+    private final Map<Long, Double> costs = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile boolean loaded;
+
+    public Double getCost(Long productId) {
+        ensureLoaded();
+        return productId != null ? costs.get(productId) : null;
+    }
+
+    public Map<Long, Double> getRecipe(Long productId) {
+        ensureLoaded();
+        return recipes.getOrDefault(productId, Map.of());
+    }
+
+    public Set<Long> getProductIds() {
+        ensureLoaded();
+        return Collections.unmodifiableSet(products.keySet());
+    }
+
+    public Set<Long> getDependentProducts(Long ingredientId) {
+        ensureLoaded();
+        Set<Long> products = dependents.get(ingredientId);
+        return products != null ? Collections.unmodifiableSet(products) : Set.of();
+    }
+
+    public List<CostSimulation> simulate(Map<Long, Double> priceOverrides, Map<Long, Double> percentageChanges) {
+        ensureLoaded();
+        Map<Long, Double> prices;
+        Map<Long, Double> currentCosts;
+        Map<Long, Map<Long, Double>> affectedRecipes = new HashMap<>();
+        List<ProductInfo> catalog;
+        lock.lock();
+        try {
+            prices = new HashMap<>(ingredientPrices);
+            Set<Long> changed = new HashSet<>(priceOverrides.keySet());
+            changed.addAll(percentageChanges.keySet());
+            for (Long ingredientId : changed) {
+                Double price = ingredientPrices.get(ingredientId);
+                if (price == null) {
+                    throw new RuntimeException("Ingrediente no encontrado: " + ingredientId);
+                }
+                price = priceOverrides.getOrDefault(ingredientId, price);
+                Double percentage = percentageChanges.get(ingredientId);
+                if (price != null && percentage != null) {
+                    price = price * (1 + percentage / 100);
+                }
+                if (price == null || price < 0) {
+                    throw new RuntimeException("El precio simulado no puede ser negativo: " + ingredientId);
+                }
+                prices.put(ingredientId, price);
+                dependents.getOrDefault(ingredientId, Set.of())
+                        .forEach(productId -> affectedRecipes.put(productId, recipes.getOrDefault(productId, Map.of())));
+            }
+            currentCosts = new HashMap<>(costs);
+            catalog = new ArrayList<>(products.values());
+        } finally {
+            lock.unlock();
+        }
+
+        return catalog.parallelStream()
+                .map(product -> {
+                    double currentCost = currentCosts.getOrDefault(product.getId(), 0.0);
+                    Map<Long, Double> recipe = affectedRecipes.get(product.getId());
+                    double simulatedCost = recipe != null ? cost(recipe, prices) : currentCost;
+                    double price = product.getPrice() != null ? product.getPrice() : 0.0;
+                    return new CostSimulation(product.getId(), product.getName(), product.getPrice(),
+                            currentCost, simulatedCost, price - currentCost, price - simulatedCost);
+                })
+                .sorted(Comparator.comparing(CostSimulation::getProductId))
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIngredientChanged(IngredientChangedEvent event) {
+        lock.lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            Long ingredientId = event.getIngredientId();
+            if (event.isDeleted()) {
+                ingredientPrices.remove(ingredientId);
+                return;
+            }
+            Double previous = ingredientPrices.put(ingredientId, event.getCostPrice());
+            if (!Objects.equals(previous, event.getCostPrice())) {
+                dependents.getOrDefault(ingredientId, Set.of()).forEach(this::recalculate);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        lock.lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            Long productId = event.getProductId();
+            Map<Long, Double> previous = recipes.remove(productId);
+            if (previous != null) {
+                previous.keySet().forEach(ingredientId -> unlink(ingredientId, productId));
+            }
+            if (event.isDeleted()) {
+                costs.remove(productId);
+                products.remove(productId);
+                return;
+            }
+            products.put(productId, new ProductInfo(productId, event.getName(), event.getPrice()));
+            Map<Long, Double> lines = Map.copyOf(event.getRecipeLines());
+            recipes.put(productId, lines);
+            lines.keySet().forEach(ingredientId -> link(ingredientId, productId));
+            recalculate(productId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogReset(CatalogResetEvent event) {
+        lock.lock();
+        try {
+            loaded = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            load();
+        }
+    }
+
+    private void load() {
+        lock.lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            ReadWriteRoutingDataSource.withPrimary(this::rebuild);
+            loaded = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rebuild() {
+        products.clear();
+        ingredientPrices.clear();
+        recipes.clear();
+        dependents.clear();
+        costs.clear();
+
+        for (ProductSummary product : productRepository.findAllSummaries()) {
+            products.put(product.getId(), new ProductInfo(product.getId(), product.getName(), product.getPrice()));
+        }
+        for (IngredientPrice price : ingredientRepository.findAllPrices()) {
+            ingredientPrices.put(price.getId(), price.getCostPrice());
+        }
+        Map<Long, Map<Long, Double>> lines = new HashMap<>();
+        for (RecipeLine line : productRecipeRepository.findAllLines()) {
+            lines.computeIfAbsent(line.getProductId(), id -> new HashMap<>())
+                    .merge(line.getIngredientId(), line.getQuantity(), Double::sum);
+        }
+        lines.forEach((productId, recipe) -> {
+            recipes.put(productId, Map.copyOf(recipe));
+            recipe.keySet().forEach(ingredientId -> link(ingredientId, productId));
+        });
+        products.keySet().forEach(this::recalculate);
+    }
+
+    private void recalculate(Long productId) {
+        costs.put(productId, cost(recipes.getOrDefault(productId, Map.of()), ingredientPrices));
+    }
+
+    private static double cost(Map<Long, Double> recipe, Map<Long, Double> prices) {
+        double total = 0.0;
+        for (Map.Entry<Long, Double> line : recipe.entrySet()) {
+            Double price = prices.get(line.getKey());
+            if (price != null) {
+                total += price * line.getValue();
+            }
+        }
+        return total;
+    }
+
+    private void link(Long ingredientId, Long productId) {
+        dependents.computeIfAbsent(ingredientId, id -> ConcurrentHashMap.newKeySet()).add(productId);
+    }
+
+    private void unlink(Long ingredientId, Long productId) {
+        Set<Long> products = dependents.get(ingredientId);
+        if (products != null) {
+            products.remove(productId);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ProductInfo {
+        private final Long id;
+        private final String name;
+        private final Double price;
+    }
+}
@@ -1,71 +1,249 @@
 package com.inventory.service;
 
+import com.inventory.config.CacheConfig;
+import com.inventory.config.ReadFromPrimary;
+import com.inventory.dto.CatalogResponse;
+import com.inventory.dto.CostSimulation;
+import com.inventory.dto.IngredientReference;
+import com.inventory.dto.PageResponse;
+import com.inventory.dto.ProductFilter;
+import com.inventory.dto.ProductListItem;
+import com.inventory.dto.RecipeLineView;
+import com.inventory.dto.SimulationRequest;
+import com.inventory.entity.Ingredient;
 import com.inventory.entity.Product;
 import com.inventory.entity.ProductRecipe;
-import com.inventory.repository.ProductRepository;
+import com.inventory.entity.StockMovement;
+import com.inventory.entity.StockMovement.ItemType;
+import com.inventory.entity.StockMovement.MovementType;
+import com.inventory.event.IngredientChangedEvent;
+import com.inventory.event.ProductChangedEvent;
+import com.inventory.exception.InsufficientStockException;
+import com.inventory.repository.IngredientRepository;
+import com.inventory.repository.KeysetCursor;
 import com.inventory.repository.ProductRecipeRepository;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.RecipeLine;
+import com.inventory.repository.StockRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ProductService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository;
+    private final IngredientRepository ingredientRepository;
     private final ProductRecipeRepository productRecipeRepository;
+    private final StockRepository stockRepository;
+    private final StockLedgerService stockLedgerService;
+    private final ProductCostEngine costEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @ReadFromPrimary
     @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
-        List<Product> products = productRepository.findAll();
-        for (Product product : products) {
-            if (product.getId() != null) {
-                product.setRecipes(productRecipeRepository.findByProductId(product.getId()));
-            }
+        List<Product> products = productRepository.findAllWithRecipes();
+        products.forEach(this::calculateCosts);
+        return products;
+    }
+
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public CatalogResponse getCatalog() {
+        Map<Long, IngredientReference> ingredients = new LinkedHashMap<>();
+        List<ProductListItem> items = new ArrayList<>();
+        for (Product product : productRepository.findAllWithRecipes()) {
             calculateCosts(product);
+            List<RecipeLineView> lines = new ArrayList<>(product.getRecipes().size());
+            for (ProductRecipe recipe : product.getRecipes()) {
+                Ingredient ingredient = recipe.getIngredient();
+                ingredients.computeIfAbsent(ingredient.getId(), id -> new IngredientReference(
+                        id, ingredient.getName(), ingredient.getUnit(), ingredient.getCostPrice()));
+                lines.add(new RecipeLineView(ingredient.getId(), recipe.getQuantity()));
+            }
+            items.add(new ProductListItem(product.getId(), product.getName(), product.getDescription(),
+                    product.getPrice(), product.getStock(), product.getCalculatedCost(), product.getProfitMargin(), lines));
         }
-        return products;
+        return new CatalogResponse(items, new ArrayList<>(ingredients.values()));
     }
 
-    public Product saveProduct(Product product) {
-        Product saved = productRepository.save(product);
-        
-        if (product.getId() != null) {
-            productRecipeRepository.findByProductId(product.getId()).forEach(productRecipeRepository::delete);
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public PageResponse<Product> getProductPage(ProductFilter filter, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor after = cursor != null && !cursor.isBlank() ? KeysetCursor.decode(cursor, filter.getSort()) : null;
+
+        List<KeysetCursor> keys = productRepository.findPageKeys(filter, after, pageSize + 1);
+        boolean hasNext = keys.size() > pageSize;
+        if (hasNext) {
+            keys = keys.subList(0, pageSize);
         }
-        
-        if (product.getRecipes() != null && !product.getRecipes().isEmpty()) {
-            product.getRecipes().forEach(recipe -> {
-                recipe.setProduct(saved);
-                recipe.setId(null);
-            });
-            productRecipeRepository.saveAll(product.getRecipes());
-            saved.setRecipes(product.getRecipes());
+        if (keys.isEmpty()) {
+            return new PageResponse<>(List.of(), null, false);
         }
-        
-        calculateCosts(saved);
+
+        List<Long> ids = keys.stream().map(KeysetCursor::getId).toList();
+        Map<Long, Product> productsById = productRepository.findAllWithRecipesByIdIn(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Product> content = ids.stream().map(productsById::get).filter(Objects::nonNull).toList();
+        content.forEach(this::calculateCosts);
+
+        String nextCursor = hasNext ? keys.get(keys.size() - 1).encode() : null;
+        return new PageResponse<>(content, nextCursor, hasNext);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT, key = "#result.id")
+    public Product saveProduct(Product product) {
+        return persist(new Product(), product);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT, key = "#id")
+    public Optional<Product> updateProduct(Long id, Product changes) {
+        return productRepository.findByIdWithRecipes(id).map(existing -> persist(existing, changes));
+    }
+
+    private Product persist(Product target, Product product) {
+        Map<Long, Double> lines = recipeLines(product);
+        Map<Long, Ingredient> ingredients = loadIngredients(lines.keySet());
+
+        Integer previousStock = target.getStock();
+        target.setName(product.getName());
+        target.setDescription(product.getDescription());
+        target.setPrice(product.getPrice());
+        target.setStock(product.getStock());
+        target.setUpdatedAt(Instant.now());
+        applyRecipeDiff(target, lines, ingredients);
+
+        Product saved = target.getId() != null ? target : productRepository.save(target);
+        stockLedgerService.recordAdjustment(ItemType.PRODUCT, saved.getId(), previousStock, saved.getStock());
+        eventPublisher.publishEvent(changed(saved));
+        applyCosts(saved, walkRecipeCost(saved));
         return saved;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT, key = "#productId")
+    public Optional<Product> updateRecipeLine(Long productId, Long ingredientId, Double quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new RuntimeException("La cantidad debe ser mayor que cero");
+        }
+        return productRepository.findByIdWithRecipes(productId).map(product -> {
+            Map<Long, Double> lines = recipeLines(product);
+            lines.put(ingredientId, quantity);
+            applyRecipeDiff(product, lines, loadIngredients(Set.of(ingredientId)));
+            return touch(product);
+        });
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT, key = "#productId")
+    public Optional<Product> removeRecipeLine(Long productId, Long ingredientId) {
+        return productRepository.findByIdWithRecipes(productId).map(product -> {
+            Map<Long, Double> lines = recipeLines(product);
+            if (lines.remove(ingredientId) == null) {
+                throw new RuntimeException("El producto no contiene el ingrediente: " + ingredientId);
+            }
+            applyRecipeDiff(product, lines, Map.of());
+            return touch(product);
+        });
+    }
+
+    @ReadFromPrimary
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PRODUCT, key = "#id")
     public Optional<Product> getProductById(Long id) {
-        Optional<Product> productOpt = productRepository.findById(id);
-        productOpt.ifPresent(product -> {
-            product.setRecipes(productRecipeRepository.findByProductId(id));
-            calculateCosts(product);
-        });
+        Optional<Product> productOpt = productRepository.findByIdWithRecipes(id);
+        productOpt.ifPresent(this::calculateCosts);
         return productOpt;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT, key = "#id")
     public void deleteProduct(Long id) {
         productRepository.deleteById(id);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT, key = "#productId"),
+            @CacheEvict(cacheNames = {CacheConfig.INGREDIENTS, CacheConfig.INGREDIENT}, allEntries = true)
+    })
+    public Optional<Product> produce(Long productId, Integer units) {
+        if (units == null || units <= 0) {
+            throw new RuntimeException("Las unidades deben ser mayores que cero");
+        }
+        if (stockRepository.addProductStock(productId, units) == 0) {
+            return Optional.empty();
+        }
+
+        SortedMap<Long, Double> required = new TreeMap<>();
+        for (RecipeLine line : productRecipeRepository.findLinesByProductId(productId)) {
+            required.merge(line.getIngredientId(), line.getQuantity() * units, Double::sum);
+        }
+        required.replaceAll((ingredientId, quantity) -> StockRepository.normalize(quantity));
+        if (!required.isEmpty()) {
+            List<Long> rejected = stockRepository.subtractIngredientStock(required);
+            if (!rejected.isEmpty()) {
+                throw new InsufficientStockException(rejected.get(0));
+            }
+        }
+
+        List<StockMovement> movements = new ArrayList<>(required.size() + 1);
+        movements.add(StockLedgerService.movement(ItemType.PRODUCT, productId, MovementType.PRODUCTION, units));
+        required.forEach((ingredientId, quantity) -> movements.add(
+                StockLedgerService.movement(ItemType.INGREDIENT, ingredientId, MovementType.CONSUMPTION, -quantity)));
+        stockLedgerService.record(movements);
+
+        return productRepository.findByIdWithRecipes(productId).map(product -> {
+            eventPublisher.publishEvent(changed(product));
+            product.getRecipes().stream()
+                    .map(ProductRecipe::getIngredient)
+                    .forEach(ingredient -> eventPublisher.publishEvent(IngredientChangedEvent.of(ingredient)));
+            calculateCosts(product);
+            return product;
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public List<CostSimulation> simulateCosts(SimulationRequest request) {
+        Map<Long, Double> priceOverrides = request.getPriceOverrides() != null ? request.getPriceOverrides() : Map.of();
+        Map<Long, Double> percentageChanges = request.getPercentageChanges() != null ? request.getPercentageChanges() : Map.of();
+        return costEngine.simulate(priceOverrides, percentageChanges);
     }
 
     private void calculateCosts(Product product) {
+        Double cachedCost = costEngine.getCost(product.getId());
+        applyCosts(product, cachedCost != null ? cachedCost : walkRecipeCost(product));
+    }
+
+    private void applyCosts(Product product, double totalCost) {
+        product.setCalculatedCost(totalCost);
+        product.setProfitMargin(product.getPrice() - totalCost);
+    }
+
+    private double walkRecipeCost(Product product) {
         double totalCost = 0.0;
         if (product.getRecipes() != null && !product.getRecipes().isEmpty()) {
             for (ProductRecipe recipe : product.getRecipes()) {
@@ -74,7 +252,71 @@ public class ProductService {
                 }
             }
         }
-        product.setCalculatedCost(totalCost);
-        product.setProfitMargin(product.getPrice() - totalCost);
+        return totalCost;
+    }
+
+    private Product touch(Product product) {
+        product.setUpdatedAt(Instant.now());
+        eventPublisher.publishEvent(changed(product));
+        applyCosts(product, walkRecipeCost(product));
+        return product;
+    }
+
+    private void applyRecipeDiff(Product product, Map<Long, Double> lines, Map<Long, Ingredient> ingredients) {
+        if (product.getRecipes() == null) {
+            product.setRecipes(new ArrayList<>());
+        }
+        Map<Long, Double> pending = new HashMap<>(lines);
+        Iterator<ProductRecipe> existing = product.getRecipes().iterator();
+        while (existing.hasNext()) {
+            ProductRecipe recipe = existing.next();
+            Double quantity = pending.remove(recipe.getIngredient().getId());
+            if (quantity == null) {
+                existing.remove();
+            } else if (!quantity.equals(recipe.getQuantity())) {
+                recipe.setQuantity(quantity);
+            }
+        }
+        pending.forEach((ingredientId, quantity) -> {
+            ProductRecipe recipe = new ProductRecipe();
+            recipe.setProduct(product);
+            recipe.setIngredient(ingredients.get(ingredientId));
+            recipe.setQuantity(quantity);
+            product.getRecipes().add(recipe);
+        });
+    }
+
+    private Map<Long, Ingredient> loadIngredients(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Ingredient> ingredients = ingredientRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Ingredient::getId, Function.identity()));
+        for (Long id : ids) {
+            if (!ingredients.containsKey(id)) {
+                throw new RuntimeException("Ingrediente no encontrado: " + id);
+            }
+        }
+        return ingredients;
+    }
+
+    private ProductChangedEvent changed(Product product) {
+        return new ProductChangedEvent(product.getId(), product.getName(), product.getDescription(),
+                product.getPrice(), recipeLines(product), false);
+    }
+
+    private Map<Long, Double> recipeLines(Product product) {
+        Map<Long, Double> lines = new HashMap<>();
+        if (product.getRecipes() != null) {
+            for (ProductRecipe recipe : product.getRecipes()) {
+                if (recipe.getIngredient() != null && recipe.getIngredient().getId() != null) {
+                    if (recipe.getQuantity() == null || recipe.getQuantity() <= 0) {
+                        throw new RuntimeException("La cantidad debe ser mayor que cero");
+                    }
+                    lines.merge(recipe.getIngredient().getId(), recipe.getQuantity(), Double::sum);
+                }
+            }
+        }
+        return lines;
     }
 }
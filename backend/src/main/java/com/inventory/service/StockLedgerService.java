@@ -0,0 +1,136 @@
+package com.inventory.service;
+
+import com.inventory.dto.StockLevel;
+import com.inventory.entity.StockMovement;
+import com.inventory.entity.StockMovement.ItemType;
+import com.inventory.entity.StockMovement.MovementType;
+import com.inventory.entity.StockSnapshot;
+import com.inventory.event.CatalogResetEvent;
+import com.inventory.repository.StockMovementRepository;
+import com.inventory.repository.StockSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StockLedgerService {
+
+    private static final int MAX_HISTORY_SIZE = 500;
+
+    private final StockMovementRepository stockMovementRepository;
+    private final StockSnapshotRepository stockSnapshotRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${stock.snapshot.grace-ms:300000}")
+    private long snapshotGraceMs;
+
+    @Value("${stock.snapshot.retention-days:90}")
+    private long snapshotRetentionDays;
+
+    public static StockMovement movement(ItemType itemType, Long itemId, MovementType movementType, double quantity) {
+        StockMovement movement = new StockMovement();
+        movement.setItemType(itemType);
+        movement.setItemId(itemId);
+        movement.setMovementType(movementType);
+        movement.setQuantity(quantity);
+        return movement;
+    }
+
+    public void record(List<StockMovement> movements) {
+        List<StockMovement> pending = new ArrayList<>(movements.size());
+        Instant now = Instant.now();
+        for (StockMovement movement : movements) {
+            if (movement.getQuantity() != null && movement.getQuantity() != 0) {
+                movement.setCreatedAt(now);
+                pending.add(movement);
+            }
+        }
+        if (!pending.isEmpty()) {
+            stockMovementRepository.saveAll(pending);
+        }
+    }
+
+    public void recordAdjustment(ItemType itemType, Long itemId, Number previous, Number current) {
+        double delta = (current != null ? current.doubleValue() : 0) - (previous != null ? previous.doubleValue() : 0);
+        record(List.of(movement(itemType, itemId, MovementType.ADJUSTMENT, delta)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<StockMovement> getHistory(ItemType itemType, Long itemId, Instant from, Instant to, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_SIZE));
+        return stockMovementRepository.findHistory(itemType, itemId,
+                from != null ? from : Instant.EPOCH,
+                to != null ? to : Instant.now(),
+                PageRequest.of(0, pageSize));
+    }
+
+    @Transactional(readOnly = true)
+    public StockLevel getStockAt(ItemType itemType, Long itemId, Instant at) {
+        Instant until = at != null ? at : Instant.now();
+        Optional<StockSnapshot> snapshot = stockSnapshotRepository
+                .findFirstByIdItemTypeAndIdItemIdAndIdTakenAtLessThanEqualOrderByIdTakenAtDesc(itemType, itemId, until);
+        double base = snapshot.map(StockSnapshot::getQuantity).orElse(0.0);
+        Instant since = snapshot.map(s -> s.getId().getTakenAt()).orElse(Instant.EPOCH);
+        double quantity = base + stockMovementRepository.sumQuantity(itemType, itemId, since, until);
+        return new StockLevel(itemType, itemId, until, quantity);
+    }
+
+    @Scheduled(fixedDelayString = "${stock.snapshot.interval-ms:3600000}",
+            initialDelayString = "${stock.snapshot.interval-ms:3600000}")
+    public void checkpoint() {
+        Instant cutoff = Instant.now().minusMillis(snapshotGraceMs);
+        Timestamp previous = jdbcTemplate.queryForObject("SELECT MAX(taken_at) FROM stock_snapshots", Timestamp.class);
+        if (previous != null && previous.toInstant().isAfter(cutoff)) {
+            cutoff = previous.toInstant();
+        }
+        Timestamp takenAt = Timestamp.from(cutoff);
+        Timestamp since = previous != null ? previous : Timestamp.from(Instant.EPOCH);
+        int ingredients = snapshot(ItemType.INGREDIENT, "ingredients", "current_stock", takenAt, since);
+        int products = snapshot(ItemType.PRODUCT, "products", "stock", takenAt, since);
+        Timestamp retainedFrom = Timestamp.from(cutoff.minus(Duration.ofDays(snapshotRetentionDays)));
+        int pruned = jdbcTemplate.update(
+                "DELETE FROM stock_snapshots WHERE taken_at < ? AND EXISTS (SELECT 1 FROM stock_snapshots n "
+                        + "WHERE n.item_type = stock_snapshots.item_type AND n.item_id = stock_snapshots.item_id "
+                        + "AND n.taken_at > stock_snapshots.taken_at AND n.taken_at <= ?)",
+                retainedFrom, retainedFrom);
+        log.info("Instantánea de stock registrada: {} ingredientes, {} productos, {} instantáneas antiguas eliminadas",
+                ingredients, products, pruned);
+    }
+
+    private int snapshot(ItemType itemType, String table, String column, Timestamp takenAt, Timestamp since) {
+        String type = "'" + itemType.name() + "'";
+        return jdbcTemplate.update(
+                "INSERT INTO stock_snapshots (item_type, item_id, taken_at, quantity) "
+                        + "SELECT " + type + ", t.id, ?, COALESCE(t." + column + ", 0) - COALESCE((SELECT SUM(m.quantity) "
+                        + "FROM stock_movements m WHERE m.item_type = " + type + " AND m.item_id = t.id "
+                        + "AND m.created_at > ?), 0) FROM " + table + " t "
+                        + "WHERE EXISTS (SELECT 1 FROM stock_movements m WHERE m.item_type = " + type
+                        + " AND m.item_id = t.id AND m.created_at > ? AND m.created_at <= ?) "
+                        + "OR NOT EXISTS (SELECT 1 FROM stock_snapshots s WHERE s.item_type = " + type
+                        + " AND s.item_id = t.id)",
+                takenAt, takenAt, since, takenAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onCatalogReset(CatalogResetEvent event) {
+        checkpoint();
+    }
+}
@@ -0,0 +1,37 @@
+package com.inventory;
+
+import com.inventory.entity.Ingredient;
+import com.inventory.entity.Product;
+import com.inventory.entity.ProductRecipe;
+
+public final class TestData {
+
+    private TestData() {
+    }
+
+    public static Ingredient ingredient(String name, double costPrice, double currentStock) {
+        Ingredient ingredient = new Ingredient();
+        ingredient.setName(name);
+        ingredient.setCostPrice(costPrice);
+        ingredient.setCurrentStock(currentStock);
+        ingredient.setUnit("kg");
+        return ingredient;
+    }
+
+    public static Product product(String name, double price, int stock) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(price);
+        product.setStock(stock);
+        return product;
+    }
+
+    public static Product withLine(Product product, Ingredient ingredient, double quantity) {
+        ProductRecipe recipe = new ProductRecipe();
+        recipe.setProduct(product);
+        recipe.setIngredient(ingredient);
+        recipe.setQuantity(quantity);
+        product.getRecipes().add(recipe);
+        return product;
+    }
+}
@@ -0,0 +1,127 @@
+package com.inventory.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = pool("routing-primary", "primary");
+        replica = pool("routing-replica", "replica");
+        routing = new ReadWriteRoutingDataSource(primary, List.of(replica));
+        routing.afterPropertiesSet();
+        routing.checkReplicas();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        routing.destroy();
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() {
+        assertThat(databaseIn(readOnly)).isEqualTo("replica");
+        assertThat(databaseIn(readWrite)).isEqualTo("primary");
+        assertThat(database()).isEqualTo("primary");
+    }
+
+    @Test
+    void forcedPrimaryReadsSkipReplica() {
+        AtomicReference<String> result = new AtomicReference<>();
+        ReadWriteRoutingDataSource.withPrimary(() -> result.set(databaseIn(readOnly)));
+
+        assertThat(result.get()).isEqualTo("primary");
+        assertThat(databaseIn(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void readFromPrimaryAnnotationForcesPrimary() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new CatalogReader(readOnly, jdbcTemplate));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ReadFromPrimaryAspect());
+        CatalogReader reader = factory.getProxy();
+
+        assertThat(reader.cachedRead()).isEqualTo("primary");
+        assertThat(reader.plainRead()).isEqualTo("replica");
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsDown() {
+        replica.close();
+
+        assertThat(databaseIn(readOnly)).isEqualTo("primary");
+        assertThat(databaseIn(readOnly)).isEqualTo("primary");
+    }
+
+    private String databaseIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> database());
+    }
+
+    private String database() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static HikariDataSource pool(String name, String marker) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(2);
+        HikariDataSource dataSource = new HikariDataSource(config);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS marker");
+        jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", marker);
+        return dataSource;
+    }
+
+    static class CatalogReader {
+
+        private final TransactionTemplate readOnly;
+        private final JdbcTemplate jdbcTemplate;
+
+        CatalogReader(TransactionTemplate readOnly, JdbcTemplate jdbcTemplate) {
+            this.readOnly = readOnly;
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @ReadFromPrimary
+        public String cachedRead() {
+            return plainRead();
+        }
+
+        public String plainRead() {
+            String name = readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+            return name;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.inventory.config;
+
+import com.inventory.WebIntegrationTest;
+import com.inventory.service.IngredientService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.web.servlet.ServletContextInitializerBeans;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+
+import static com.inventory.TestData.ingredient;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WebIntegrationTest
+class StatementCountFilterTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    void runsBeforeSecurityAndSkipsAsyncRequests() {
+        Long id = ingredientService.saveIngredient(ingredient("Contador comino", 3.0, 1.0)).getId();
+
+        restTemplate.getForEntity("/api/ingredients/" + id, String.class);
+        restTemplate.getForEntity("/api/products/export?format=csv", String.class);
+
+        DistributionSummary detail = meterRegistry.find("hibernate.statements.per.request")
+                .tag("uri", "/api/ingredients/{id}").summary();
+        assertThat(detail).isNotNull();
+        assertThat(detail.totalAmount()).isPositive();
+        assertThat(meterRegistry.find("hibernate.statements.per.request").tag("uri", "/api/products/export").summary())
+                .isNull();
+
+        FilterRegistrationBean<?> registration = new ServletContextInitializerBeans(applicationContext).stream()
+                .filter(FilterRegistrationBean.class::isInstance)
+                .map(FilterRegistrationBean.class::cast)
+                .filter(bean -> bean.getFilter() instanceof StatementCountFilter)
+                .findFirst()
+                .orElseThrow();
+        assertThat(registration.getOrder()).isEqualTo(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
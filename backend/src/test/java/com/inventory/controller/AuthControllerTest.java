@@ -0,0 +1,62 @@
+package com.inventory.controller;
+
+import com.inventory.WebIntegrationTest;
+import com.inventory.dto.AuthResponse;
+import com.inventory.entity.User;
+import com.inventory.repository.UserRepository;
+import com.inventory.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WebIntegrationTest
+class AuthControllerTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void loginIssuesTokensAndRejectsWrongPassword() {
+        userService.registerUser("login-pool", "login-pool@example.com", "secreto123");
+
+        ResponseEntity<AuthResponse> ok = login("login-pool", "secreto123", AuthResponse.class);
+        assertThat(ok.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(ok.getBody().getToken()).isNotBlank();
+        assertThat(ok.getBody().getRefreshToken()).isNotBlank();
+
+        ResponseEntity<Map> rejected = login("login-pool", "otra", Map.class);
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(rejected.getBody()).containsEntry("message", "Credenciales inválidas");
+    }
+
+    @Test
+    void loginRehashesPasswordsStoredWithAWeakerCost() {
+        userService.registerUser("login-rehash", "login-rehash@example.com", "secreto123");
+        User user = userRepository.findByUsername("login-rehash").orElseThrow();
+        user.setPassword(new BCryptPasswordEncoder(4).encode("secreto123"));
+        userRepository.save(user);
+
+        assertThat(login("login-rehash", "secreto123", AuthResponse.class).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        String rehashed = userRepository.findByUsername("login-rehash").orElseThrow().getPassword();
+        assertThat(rehashed).startsWith("$2a$10$");
+        assertThat(new BCryptPasswordEncoder().matches("secreto123", rehashed)).isTrue();
+    }
+
+    private <T> ResponseEntity<T> login(String username, String password, Class<T> type) {
+        return restTemplate.postForEntity("/api/auth/login", Map.of("username", username, "password", password), type);
+    }
+}
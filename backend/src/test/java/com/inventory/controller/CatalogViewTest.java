@@ -0,0 +1,95 @@
+package com.inventory.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.WebIntegrationTest;
+import com.inventory.entity.Ingredient;
+import com.inventory.entity.Product;
+import com.inventory.service.IngredientService;
+import com.inventory.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+
+import static com.inventory.TestData.ingredient;
+import static com.inventory.TestData.product;
+import static com.inventory.TestData.withLine;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WebIntegrationTest
+class CatalogViewTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void catalogListsEachIngredientOnceAndIsGzipped() throws Exception {
+        Ingredient saffron = ingredientService.saveIngredient(ingredient("Vista azafrán", 45.0, 1.0));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Product product = product("Vista arroz " + i, 12.0, 1);
+            product.setDescription("Arroz con azafrán preparado según la receta tradicional de la casa, variante número " + i);
+            ids.add(productService.saveProduct(withLine(product, saffron, 0.001)).getId());
+        }
+
+        HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(uri("/api/products/catalog"))
+                .header("Accept-Encoding", "gzip").build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        JsonNode catalog;
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            catalog = objectMapper.readTree(body);
+        }
+        List<JsonNode> products = StreamSupport.stream(catalog.path("products").spliterator(), false)
+                .filter(node -> ids.contains(node.path("id").asLong()))
+                .toList();
+        assertThat(products).hasSize(20).allSatisfy(node -> {
+            assertThat(node.path("recipes")).hasSize(1);
+            JsonNode line = node.path("recipes").get(0);
+            assertThat(line.path("ingredientId").asLong()).isEqualTo(saffron.getId());
+            assertThat(line.has("ingredient")).isFalse();
+        });
+        assertThat(StreamSupport.stream(catalog.path("ingredients").spliterator(), false)
+                .filter(node -> node.path("id").asLong() == saffron.getId()))
+                .singleElement()
+                .satisfies(node -> assertThat(node.path("name").asText()).isEqualTo("Vista azafrán"));
+    }
+
+    @Test
+    void detailViewKeepsTheNestedIngredient() throws Exception {
+        Ingredient rice = ingredientService.saveIngredient(ingredient("Vista arroz bomba", 1.8, 10.0));
+        Long id = productService.saveProduct(withLine(product("Vista paella", 12.0, 1), rice, 0.3)).getId();
+
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri("/api/products/" + id)).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        JsonNode detail = objectMapper.readTree(response.body());
+        assertThat(detail.path("recipes").get(0).path("ingredient").path("name").asText()).isEqualTo("Vista arroz bomba");
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
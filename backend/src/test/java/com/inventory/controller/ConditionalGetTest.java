@@ -0,0 +1,78 @@
+package com.inventory.controller;
+
+import com.inventory.WebIntegrationTest;
+import com.inventory.entity.Ingredient;
+import com.inventory.service.IngredientService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static com.inventory.TestData.ingredient;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WebIntegrationTest
+class ConditionalGetTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Test
+    void listAnswersNotModifiedUntilAWriteBumpsTheETag() {
+        ingredientService.saveIngredient(ingredient("Condicional orégano", 8.0, 1.0));
+        for (String path : new String[]{"/api/ingredients", "/api/products"}) {
+            ResponseEntity<String> first = restTemplate.getForEntity(path, String.class);
+            String eTag = first.getHeaders().getETag();
+            assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(eTag).isNotBlank();
+
+            ResponseEntity<String> unchanged = get(path, HttpHeaders.IF_NONE_MATCH, eTag);
+            assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(unchanged.getBody()).isNull();
+        }
+
+        String ingredientsETag = restTemplate.getForEntity("/api/ingredients", String.class).getHeaders().getETag();
+        String productsETag = restTemplate.getForEntity("/api/products", String.class).getHeaders().getETag();
+        ingredientService.saveIngredient(ingredient("Condicional tomillo", 7.0, 1.0));
+
+        ResponseEntity<String> ingredients = get("/api/ingredients", HttpHeaders.IF_NONE_MATCH, ingredientsETag);
+        assertThat(ingredients.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(ingredients.getHeaders().getETag()).isNotEqualTo(ingredientsETag);
+        assertThat(ingredients.getBody()).contains("Condicional tomillo");
+        assertThat(get("/api/products", HttpHeaders.IF_NONE_MATCH, productsETag).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void singleIngredientHonoursIfModifiedSince() throws InterruptedException {
+        Ingredient saved = ingredientService.saveIngredient(ingredient("Condicional romero", 6.0, 1.0));
+        String path = "/api/ingredients/" + saved.getId();
+
+        ResponseEntity<String> first = restTemplate.getForEntity(path, String.class);
+        String lastModified = first.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+        assertThat(lastModified).isNotBlank();
+        assertThat(get(path, HttpHeaders.IF_MODIFIED_SINCE, lastModified).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        Thread.sleep(1100);
+        saved.setCostPrice(6.5);
+        ingredientService.updateIngredient(saved.getId(), saved);
+
+        ResponseEntity<String> modified = get(path, HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        assertThat(modified.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(modified.getBody()).contains("6.5");
+    }
+
+    private ResponseEntity<String> get(String path, String header, String value) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(header, value);
+        return restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+}
@@ -0,0 +1,73 @@
+package com.inventory.controller;
+
+import com.inventory.WebIntegrationTest;
+import com.inventory.security.PasswordHashingService;
+import com.inventory.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WebIntegrationTest
+@TestPropertySource(properties = {
+        "security.password-hashing.threads=1",
+        "security.password-hashing.queue-capacity=1"
+})
+class PasswordHashingSaturationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void loginIsRejectedWithRetryAfterWhenTheHashingPoolIsFull() throws Exception {
+        userService.registerUser("login-saturated", "login-saturated@example.com", "secreto123");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        CompletableFuture<Boolean> busy = passwordHashingService.submit(() -> {
+            running.countDown();
+            return await(release);
+        });
+        assertThat(running.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = passwordHashingService.submit(() -> true);
+        try {
+            ResponseEntity<String> response = restTemplate.postForEntity("/api/auth/login",
+                    Map.of("username", "login-saturated", "password", "secreto123"), String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        } finally {
+            release.countDown();
+        }
+        assertThat(busy.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(10, TimeUnit.SECONDS)).isTrue();
+
+        ResponseEntity<String> recovered = restTemplate.postForEntity("/api/auth/login",
+                Map.of("username", "login-saturated", "password", "secreto123"), String.class);
+        assertThat(recovered.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.inventory.controller;
+
+import com.inventory.WebIntegrationTest;
+import com.inventory.entity.Product;
+import com.inventory.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WebIntegrationTest
+class ProductControllerTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void updatingUnknownProductReturnsNotFoundWithoutCreatingIt() {
+        long before = productRepository.count();
+        Map<String, Object> body = Map.of("name", "Fantasma", "price", 3.0, "stock", 1);
+
+        ResponseEntity<String> put = restTemplate.exchange("/api/products/987654", HttpMethod.PUT,
+                new HttpEntity<>(body), String.class);
+        ResponseEntity<String> post = restTemplate.postForEntity("/api/products",
+                Map.of("id", 987654, "name", "Fantasma", "price", 3.0, "stock", 1), String.class);
+
+        assertThat(put.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(post.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(productRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    void updatingExistingProductKeepsItsId() {
+        ResponseEntity<Product> created = restTemplate.postForEntity("/api/products",
+                Map.of("name", "Pan de molde", "price", 2.5, "stock", 4), Product.class);
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        Long id = created.getBody().getId();
+
+        ResponseEntity<Product> updated = restTemplate.exchange("/api/products/" + id, HttpMethod.PUT,
+                new HttpEntity<>(Map.of("name", "Pan de molde integral", "price", 2.8, "stock", 4)), Product.class);
+
+        assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(updated.getBody().getId()).isEqualTo(id);
+        assertThat(updated.getBody().getName()).isEqualTo("Pan de molde integral");
+    }
+}
@@ -0,0 +1,98 @@
+package com.inventory.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.WebIntegrationTest;
+import com.inventory.entity.Ingredient;
+import com.inventory.entity.Product;
+import com.inventory.service.IngredientService;
+import com.inventory.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.inventory.TestData.ingredient;
+import static com.inventory.TestData.product;
+import static com.inventory.TestData.withLine;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WebIntegrationTest
+class ProductExportTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void ndjsonGroupsRecipeLinesUnderOneObjectPerProduct() throws Exception {
+        Product product = savePastaWithTwoLines("Exportar pasta, fresca");
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/products/export?format=ndjson", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).startsWith("application/x-ndjson");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("products.ndjson");
+        List<JsonNode> matches = Arrays.stream(response.getBody().split("\n"))
+                .map(this::parse)
+                .filter(node -> node.path("id").asLong() == product.getId())
+                .toList();
+        assertThat(matches).hasSize(1);
+        JsonNode exported = matches.get(0);
+        assertThat(exported.path("name").asText()).isEqualTo("Exportar pasta, fresca");
+        assertThat(exported.path("recipes")).extracting(line -> line.path("ingredientName").asText())
+                .containsExactlyInAnyOrder("Exportar harina", "Exportar huevo");
+        assertThat(exported.path("calculatedCost").asDouble()).isEqualTo(0.5 * 2.0 + 0.25 * 4.0);
+        assertThat(exported.path("profitMargin").asDouble()).isEqualTo(6.0 - 2.0);
+    }
+
+    @Test
+    void csvWritesOneQuotedRowPerRecipeLine() {
+        Product product = savePastaWithTwoLines("Exportar \"pasta\", seca");
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/products/export?format=csv", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).startsWith("text/csv");
+        String[] lines = response.getBody().split("\n");
+        assertThat(lines[0]).startsWith("product_id,product_name,description,price,stock,calculated_cost,ingredient_id");
+        List<String> rows = Arrays.stream(lines).filter(line -> line.startsWith(product.getId() + ",")).toList();
+        assertThat(rows).hasSize(2)
+                .allMatch(row -> row.startsWith(product.getId() + ",\"Exportar \"\"pasta\"\", seca\",,6.0,3,2.0,"))
+                .anyMatch(row -> row.endsWith(",Exportar harina,0.5,kg,2.0"))
+                .anyMatch(row -> row.endsWith(",Exportar huevo,0.25,kg,4.0"));
+    }
+
+    @Test
+    void unknownFormatIsRejected() {
+        assertThat(restTemplate.getForEntity("/api/products/export?format=xml", String.class).getStatusCode()
+                .is4xxClientError()).isTrue();
+    }
+
+    private Product savePastaWithTwoLines(String name) {
+        Ingredient flour = ingredientService.saveIngredient(ingredient("Exportar harina", 2.0, 10.0));
+        Ingredient egg = ingredientService.saveIngredient(ingredient("Exportar huevo", 4.0, 10.0));
+        return productService.saveProduct(withLine(withLine(product(name, 6.0, 3), flour, 0.5), egg, 0.25));
+    }
+
+    private JsonNode parse(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.inventory.repository;
+
+import com.inventory.entity.Ingredient;
+import com.inventory.entity.Product;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.inventory.TestData.ingredient;
+import static com.inventory.TestData.product;
+import static com.inventory.TestData.withLine;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class ProductRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void findAllWithRecipesLoadsCatalogInOneStatement() {
+        List<Ingredient> ingredients = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            ingredients.add(entityManager.persist(ingredient("Ingrediente " + i, 1.0 + i, 10.0)));
+        }
+        for (int i = 0; i < 6; i++) {
+            Product product = product("Producto " + i, 10.0, 0);
+            for (int j = 0; j <= i % ingredients.size(); j++) {
+                withLine(product, ingredients.get(j), 0.5);
+            }
+            entityManager.persist(product);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Product> products = productRepository.findAllWithRecipes();
+        long lines = products.stream()
+                .flatMap(product -> product.getRecipes().stream())
+                .map(recipe -> recipe.getIngredient().getName())
+                .count();
+
+        assertThat(products).hasSize(6);
+        assertThat(lines).isEqualTo(13);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
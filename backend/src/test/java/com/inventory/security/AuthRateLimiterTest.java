@@ -0,0 +1,39 @@
+package com.inventory.security;
+
+import com.inventory.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuthRateLimiter limiter = new AuthRateLimiter(60, 3, 2, meterRegistry);
+
+    @Test
+    void limitsAttemptsPerIpAcrossUsernames() {
+        limiter.check("10.0.0.1", "ana");
+        limiter.check("10.0.0.1", "luis");
+        limiter.check("10.0.0.1", null);
+
+        assertThatThrownBy(() -> limiter.check("10.0.0.1", "marta"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting(ex -> ((TooManyRequestsException) ex).getRetryAfterSeconds())
+                .isEqualTo(60L);
+        assertThatCode(() -> limiter.check("10.0.0.2", "marta")).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("auth.rate.limited").tag("scope", "ip").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void limitsAttemptsPerUsernameAcrossIpsIgnoringCase() {
+        limiter.check("10.0.1.1", "Pedro");
+        limiter.check("10.0.1.2", " pedro ");
+
+        assertThatThrownBy(() -> limiter.check("10.0.1.3", "PEDRO")).isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> limiter.check("10.0.1.3", "otro")).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("auth.rate.limited").tag("scope", "username").counter().count()).isEqualTo(1.0);
+    }
+}
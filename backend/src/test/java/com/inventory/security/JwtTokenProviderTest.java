@@ -0,0 +1,50 @@
+package com.inventory.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void cachedTokenStopsValidatingAtItsExpiration() throws InterruptedException {
+        JwtTokenProvider provider = provider(1500);
+        String token = provider.generateToken("jwt-cache", List.of("ROLE_USER"), 0);
+
+        assertThat(provider.validateToken(token)).isTrue();
+        assertThat(provider.validateToken(token)).isTrue();
+        assertThat(meterRegistry.timer("jwt.validation", "cache", "hit", "result", "valid").count()).isEqualTo(1);
+
+        Thread.sleep(2100);
+
+        assertThat(provider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    void cacheIsBoundedByMaximumSize() {
+        JwtTokenProvider provider = provider(60000);
+        for (int i = 0; i < 50; i++) {
+            assertThat(provider.validateToken(provider.generateToken("jwt-size-" + i, List.of("ROLE_USER"), 0))).isTrue();
+        }
+
+        Cache<?, ?> cache = (Cache<?, ?>) ReflectionTestUtils.getField(provider, "verifiedTokens");
+        cache.cleanUp();
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(10);
+    }
+
+    private JwtTokenProvider provider(long expirationMs) {
+        JwtTokenProvider provider = new JwtTokenProvider(meterRegistry);
+        ReflectionTestUtils.setField(provider, "jwtSecret", "claveDePruebaSuficientementeLargaParaHmac256");
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.setField(provider, "cacheMaxSize", 10);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,63 @@
+package com.inventory.security;
+
+import com.inventory.IntegrationTest;
+import com.inventory.entity.User;
+import com.inventory.exception.InvalidRefreshTokenException;
+import com.inventory.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@IntegrationTest
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void tokenRepresentedWithinGraceKeepsTheSession() {
+        String token = refreshTokenService.issue(user("refresh-tabs"));
+
+        String first = refreshTokenService.rotate(token).getRefreshToken();
+        String second = refreshTokenService.rotate(token).getRefreshToken();
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(refreshTokenService.rotate(first).getRefreshToken()).isNotBlank();
+        assertThat(refreshTokenService.rotate(second).getRefreshToken()).isNotBlank();
+    }
+
+    @Test
+    void tokenRepresentedAfterLogoutIsRejected() {
+        String token = refreshTokenService.issue(user("refresh-logout"));
+        String rotated = refreshTokenService.rotate(token).getRefreshToken();
+
+        refreshTokenService.revoke(rotated);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(token)).isInstanceOf(InvalidRefreshTokenException.class);
+    }
+
+    @Test
+    void tokenRepresentedAfterGraceRevokesTheFamily() {
+        String token = refreshTokenService.issue(user("refresh-reuse"));
+        String rotated = refreshTokenService.rotate(token).getRefreshToken();
+
+        ReflectionTestUtils.setField(refreshTokenService, "reuseGraceMs", -1L);
+        try {
+            assertThatThrownBy(() -> refreshTokenService.rotate(token)).isInstanceOf(InvalidRefreshTokenException.class);
+        } finally {
+            ReflectionTestUtils.setField(refreshTokenService, "reuseGraceMs", 30000L);
+        }
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(rotated)).isInstanceOf(InvalidRefreshTokenException.class);
+    }
+
+    private User user(String username) {
+        return userService.registerUser(username, username + "@example.com", "secreto123");
+    }
+}
@@ -0,0 +1,65 @@
+package com.inventory.security;
+
+import com.inventory.WebIntegrationTest;
+import com.inventory.dto.AuthResponse;
+import com.inventory.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WebIntegrationTest
+class SecurityConfigTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void healthIsPublic() {
+        assertThat(restTemplate.getForEntity("/actuator/health", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void metricsRequireAuthentication() {
+        assertThat(restTemplate.getForEntity("/actuator/prometheus", String.class).getStatusCode().is4xxClientError())
+                .isTrue();
+        assertThat(restTemplate.getForEntity("/actuator/metrics", String.class).getStatusCode().is4xxClientError())
+                .isTrue();
+    }
+
+    @Test
+    void userEndpointsRejectMissingOrExpiredTokensWithUnauthorized() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth("caducado.invalido.token");
+
+        assertThat(restTemplate.getForEntity("/api/user/profile", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(restTemplate.exchange("/api/user/profile", HttpMethod.GET, new HttpEntity<>(headers), String.class)
+                .getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void adminEndpointsRequireAdminRole() {
+        userService.registerUser("admin-guard", "admin-guard@example.com", "secreto123");
+        String token = restTemplate.postForEntity("/api/auth/login",
+                Map.of("username", "admin-guard", "password", "secreto123"), AuthResponse.class).getBody().getToken();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+
+        assertThat(restTemplate.postForEntity("/api/admin/seed", null, String.class).getStatusCode().is4xxClientError())
+                .isTrue();
+        assertThat(restTemplate.exchange("/api/admin/generate", HttpMethod.POST, new HttpEntity<>(headers), String.class)
+                .getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+}
@@ -0,0 +1,57 @@
+package com.inventory.service;
+
+import com.inventory.IntegrationTest;
+import com.inventory.config.CacheConfig;
+import com.inventory.entity.Ingredient;
+import com.inventory.entity.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import static com.inventory.TestData.ingredient;
+import static com.inventory.TestData.product;
+import static com.inventory.TestData.withLine;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class CatalogCacheTest {
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void ingredientReadsAreCachedAndEvictedOnUpdate() {
+        Long id = ingredientService.saveIngredient(ingredient("Caché harina", 2.0, 10.0)).getId();
+
+        Ingredient first = ingredientService.getIngredientById(id).orElseThrow();
+        assertThat(ingredientService.getIngredientById(id).orElseThrow()).isSameAs(first);
+
+        ingredientService.updateIngredient(id, ingredient("Caché harina", 3.5, 10.0));
+
+        Ingredient updated = ingredientService.getIngredientById(id).orElseThrow();
+        assertThat(updated).isNotSameAs(first);
+        assertThat(updated.getCostPrice()).isEqualTo(3.5);
+    }
+
+    @Test
+    void ingredientPriceChangeEvictsDependentProducts() {
+        Ingredient ingredient = ingredientService.saveIngredient(ingredient("Caché aceite", 4.0, 10.0));
+        Long productId = productService.saveProduct(withLine(product("Caché tostada", 6.0, 0), ingredient, 0.5)).getId();
+
+        assertThat(productService.getProductById(productId).orElseThrow().getCalculatedCost()).isEqualTo(2.0);
+        Cache products = cacheManager.getCache(CacheConfig.PRODUCT);
+        assertThat(products.get(productId)).isNotNull();
+
+        ingredientService.updateIngredient(ingredient.getId(), ingredient("Caché aceite", 6.0, 10.0));
+
+        assertThat(products.get(productId)).isNull();
+        assertThat(productService.getProductById(productId).orElseThrow().getCalculatedCost()).isEqualTo(3.0);
+    }
+}
@@ -0,0 +1,49 @@
+package com.inventory.service;
+
+import com.inventory.IntegrationTest;
+import com.inventory.entity.Ingredient;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static com.inventory.TestData.ingredient;
+import static com.inventory.TestData.product;
+import static com.inventory.TestData.withLine;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class CatalogExportServiceTest {
+
+    @Autowired
+    private CatalogExportService catalogExportService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private HikariDataSource exportDataSource;
+
+    @Test
+    void exportStreamsFromItsOwnPoolWhileTheMainPoolKeepsAShortLeakThreshold() throws Exception {
+        Ingredient rice = ingredientService.saveIngredient(ingredient("Exportación arroz", 1.8, 10.0));
+        productService.saveProduct(withLine(product("Exportación paella", 12.0, 3), rice, 0.3));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        catalogExportService.exportNdjson(output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).contains("\"name\":\"Exportación paella\"");
+        assertThat(exportDataSource.getPoolName()).endsWith("-export");
+        assertThat(exportDataSource.getHikariPoolMXBean().getTotalConnections()).isPositive();
+        assertThat(exportDataSource.getLeakDetectionThreshold()).isZero();
+        assertThat(primaryDataSource.getLeakDetectionThreshold()).isLessThanOrEqualTo(10_000);
+    }
+}
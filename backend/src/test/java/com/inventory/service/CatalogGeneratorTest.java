@@ -0,0 +1,39 @@
+package com.inventory.service;
+
+import com.inventory.dto.CatalogGenerationRequest;
+import com.inventory.event.CatalogResetEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogGeneratorTest {
+
+    private final List<Object> events = new ArrayList<>();
+    private final CatalogGenerator generator = new CatalogGenerator(null, events::add);
+
+    @Test
+    void rejectsRecipeSizesThatWouldOverflowTheBatchBuffer() {
+        CatalogGenerationRequest oversizedRecipe = new CatalogGenerationRequest();
+        oversizedRecipe.setMaxRecipeSize(Integer.MAX_VALUE);
+        CatalogGenerationRequest tooManyLines = new CatalogGenerationRequest();
+        tooManyLines.setIngredients(100);
+        tooManyLines.setProducts(1_000_000);
+        tooManyLines.setMaxRecipeSize(100);
+
+        assertThatThrownBy(() -> generator.generate(oversizedRecipe)).hasMessageContaining("ingredientes");
+        assertThatThrownBy(() -> generator.generate(tooManyLines)).hasMessageContaining("líneas de receta");
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void publishesCatalogResetEvenWhenGenerationFails() {
+        assertThatThrownBy(() -> generator.generate(new CatalogGenerationRequest()))
+                .isInstanceOf(NullPointerException.class);
+
+        assertThat(events).singleElement().isInstanceOf(CatalogResetEvent.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.inventory.service;
+
+import com.inventory.IntegrationTest;
+import com.inventory.dto.SearchResult;
+import com.inventory.event.CatalogResetEvent;
+import com.inventory.repository.IngredientRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.inventory.TestData.ingredient;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class CatalogSearchIndexTest {
+
+    @Autowired
+    private CatalogSearchIndex catalogSearchIndex;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Test
+    void ranksIntersectionOfAllTokensRegardlessOfOrder() {
+        ingredientService.saveIngredient(ingredient("Índice harina integral", 1.0, 5.0));
+        ingredientService.saveIngredient(ingredient("Índice harina blanca", 1.0, 5.0));
+        ingredientService.saveIngredient(ingredient("Índice azúcar integral", 1.0, 5.0));
+
+        assertThat(names(catalogSearchIndex.search("indice harina integral", null, 10)))
+                .containsExactly("Índice harina integral");
+        assertThat(names(catalogSearchIndex.search("integral indice harina", null, 10)))
+                .containsExactly("Índice harina integral");
+        assertThat(names(catalogSearchIndex.search("indice integrl", SearchResult.Type.INGREDIENT, 10)))
+                .containsExactly("Índice azúcar integral", "Índice harina integral");
+        assertThat(names(catalogSearchIndex.search("indice", SearchResult.Type.INGREDIENT, 2)))
+                .containsExactly("Índice azúcar integral", "Índice harina blanca");
+    }
+
+    @Test
+    void rebuildKeepsServingTheCatalogAndPicksUpUnindexedRows() throws Exception {
+        ingredientService.saveIngredient(ingredient("Reconstrucción levadura", 1.0, 5.0));
+        assertThat(catalogSearchIndex.search("reconstruccion", null, 10)).hasSize(1);
+        ingredientRepository.save(ingredient("Reconstrucción masa madre", 1.0, 5.0));
+
+        catalogSearchIndex.onCatalogReset(new CatalogResetEvent());
+
+        assertThat(names(catalogSearchIndex.search("reconstruccion levadura", null, 10)))
+                .containsExactly("Reconstrucción levadura");
+
+        catalogSearchIndex.scheduleRebuild().get(30, TimeUnit.SECONDS);
+
+        assertThat(names(catalogSearchIndex.search("reconstruccion", null, 10)))
+                .containsExactly("Reconstrucción levadura", "Reconstrucción masa madre");
+    }
+
+    @Test
+    void singleTermResultsFollowRankingAcrossExpandedWords() {
+        ingredientService.saveIngredient(ingredient("Ranking cacao", 1.0, 5.0));
+        ingredientService.saveIngredient(ingredient("Ranking cacaos", 1.0, 5.0));
+        ingredientService.saveIngredient(ingredient("Ranking cacaotero", 1.0, 5.0));
+
+        List<SearchResult> results = catalogSearchIndex.search("cacao", SearchResult.Type.INGREDIENT, 10);
+
+        assertThat(names(results)).containsExactly("Ranking cacao", "Ranking cacaos", "Ranking cacaotero");
+        assertThat(results.get(0).getScore()).isGreaterThan(results.get(1).getScore());
+    }
+
+    private static List<String> names(List<SearchResult> results) {
+        return results.stream().map(SearchResult::getName).toList();
+    }
+}
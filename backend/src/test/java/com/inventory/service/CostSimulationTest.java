@@ -0,0 +1,73 @@
+package com.inventory.service;
+
+import com.inventory.IntegrationTest;
+import com.inventory.dto.CostSimulation;
+import com.inventory.dto.SimulationRequest;
+import com.inventory.entity.Ingredient;
+import com.inventory.repository.IngredientRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.inventory.TestData.ingredient;
+import static com.inventory.TestData.product;
+import static com.inventory.TestData.withLine;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@IntegrationTest
+class CostSimulationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Test
+    void simulatesMarginsWithoutChangingStoredPrices() {
+        Ingredient tomato = ingredientService.saveIngredient(ingredient("Simular tomate", 2.0, 10.0));
+        Ingredient oil = ingredientService.saveIngredient(ingredient("Simular aceite", 8.0, 10.0));
+        Ingredient bread = ingredientService.saveIngredient(ingredient("Simular pan", 1.0, 10.0));
+        Long salmorejo = productService.saveProduct(
+                withLine(withLine(product("Simular salmorejo", 6.0, 1), tomato, 0.5), oil, 0.1)).getId();
+        Long toast = productService.saveProduct(withLine(product("Simular tostada", 2.0, 1), bread, 1.0)).getId();
+
+        SimulationRequest request = new SimulationRequest();
+        request.setPercentageChanges(Map.of(tomato.getId(), 15.0));
+        request.setPriceOverrides(Map.of(oil.getId(), 10.0));
+        List<CostSimulation> simulations = productService.simulateCosts(request);
+
+        CostSimulation simulated = find(simulations, salmorejo);
+        assertThat(simulated.getCurrentCost()).isCloseTo(0.5 * 2.0 + 0.1 * 8.0, within(1e-9));
+        assertThat(simulated.getSimulatedCost()).isCloseTo(0.5 * 2.3 + 0.1 * 10.0, within(1e-9));
+        assertThat(simulated.getSimulatedMargin()).isCloseTo(6.0 - 2.15, within(1e-9));
+        CostSimulation untouched = find(simulations, toast);
+        assertThat(untouched.getSimulatedCost()).isEqualTo(untouched.getCurrentCost());
+        assertThat(simulations).isSortedAccordingTo((a, b) -> a.getProductId().compareTo(b.getProductId()));
+        assertThat(ingredientRepository.findById(tomato.getId()).orElseThrow().getCostPrice()).isEqualTo(2.0);
+        assertThat(ingredientRepository.findById(oil.getId()).orElseThrow().getCostPrice()).isEqualTo(8.0);
+    }
+
+    @Test
+    void rejectsUnknownIngredientsAndNegativePrices() {
+        Ingredient salt = ingredientService.saveIngredient(ingredient("Simular sal", 1.0, 10.0));
+        SimulationRequest unknown = new SimulationRequest();
+        unknown.setPriceOverrides(Map.of(-1L, 1.0));
+        SimulationRequest negative = new SimulationRequest();
+        negative.setPercentageChanges(Map.of(salt.getId(), -150.0));
+
+        assertThatThrownBy(() -> productService.simulateCosts(unknown)).hasMessageContaining("no encontrado");
+        assertThatThrownBy(() -> productService.simulateCosts(negative)).hasMessageContaining("negativo");
+    }
+
+    private static CostSimulation find(List<CostSimulation> simulations, Long productId) {
+        return simulations.stream().filter(s -> s.getProductId().equals(productId)).findFirst().orElseThrow();
+    }
+}
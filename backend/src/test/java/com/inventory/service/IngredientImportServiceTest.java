@@ -0,0 +1,72 @@
+package com.inventory.service;
+
+import com.inventory.IntegrationTest;
+import com.inventory.dto.BulkImportResult;
+import com.inventory.entity.Ingredient;
+import com.inventory.repository.IngredientRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static com.inventory.TestData.ingredient;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class IngredientImportServiceTest {
+
+    @Autowired
+    private IngredientImportService ingredientImportService;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void failedChunkIsRetriedRowByRowSoOnlyTheBadRowIsRejected() {
+        jdbcTemplate.execute("ALTER TABLE ingredients ADD CONSTRAINT import_retry_check CHECK (name <> 'Importar rechazado')");
+        BulkImportResult result;
+        try {
+            result = ingredientImportService.importIngredients(List.of(
+                    ingredient("Importar comino", 3.0, 1.0),
+                    ingredient("Importar rechazado", 1.0, 1.0),
+                    ingredient("Importar canela", 4.0, 2.0)));
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE ingredients DROP CONSTRAINT import_retry_check");
+        }
+
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getRow()).isEqualTo(2));
+        assertThat(ingredientRepository.findByNameIn(Set.of("Importar comino", "Importar rechazado", "Importar canela")))
+                .extracting(Ingredient::getName)
+                .containsExactlyInAnyOrder("Importar comino", "Importar canela");
+    }
+
+    @Test
+    void csvRowsUpdateByNameAndReportInvalidValues() throws Exception {
+        ingredientRepository.save(ingredient("Importar pimentón", 5.0, 1.0));
+        String csv = "name;cost_price;current_stock;unit\n"
+                + "Importar pimentón;6,5;3;kg\n"
+                + "Importar clavo;abc;1;kg\n"
+                + "Importar nuez moscada;9;0,5;kg\n";
+
+        BulkImportResult result = ingredientImportService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getRow()).isEqualTo(2));
+        Ingredient updated = ingredientRepository.findByNameIn(Set.of("Importar pimentón")).get(0);
+        assertThat(updated.getCostPrice()).isEqualTo(6.5);
+        assertThat(updated.getCurrentStock()).isEqualTo(3.0);
+    }
+}
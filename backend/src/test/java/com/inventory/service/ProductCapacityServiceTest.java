@@ -0,0 +1,58 @@
+package com.inventory.service;
+
+import com.inventory.IntegrationTest;
+import com.inventory.dto.ProductCapacity;
+import com.inventory.entity.Ingredient;
+import com.inventory.repository.IngredientRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static com.inventory.TestData.ingredient;
+import static com.inventory.TestData.product;
+import static com.inventory.TestData.withLine;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class ProductCapacityServiceTest {
+
+    @Autowired
+    private ProductCapacityService productCapacityService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Test
+    void fractionalQuantitiesAreNotUndercountedAndCanBeProducedExactly() {
+        Ingredient flour = ingredientService.saveIngredient(ingredient("Capacidad harina", 1.0, 0.6));
+        Ingredient salt = ingredientService.saveIngredient(ingredient("Capacidad sal", 1.0, 0.3));
+        Long productId = productService.saveProduct(
+                withLine(withLine(product("Capacidad pan", 2.0, 0), flour, 0.2), salt, 0.1)).getId();
+
+        ProductCapacity capacity = productCapacityService.getCapacity(productId).orElseThrow();
+        assertThat(capacity.getMaxUnits()).isEqualTo(3);
+
+        assertThat(productService.produce(productId, 3)).isPresent();
+
+        assertThat(ingredientRepository.findById(flour.getId()).orElseThrow().getCurrentStock()).isEqualTo(0.0);
+        assertThat(ingredientRepository.findById(salt.getId()).orElseThrow().getCurrentStock()).isEqualTo(0.0);
+        assertThat(productCapacityService.getCapacity(productId).orElseThrow().getMaxUnits()).isZero();
+    }
+
+    @Test
+    void bottleneckIsTheScarcestIngredient() {
+        Ingredient sugar = ingredientService.saveIngredient(ingredient("Capacidad azúcar", 1.0, 10.0));
+        Ingredient butter = ingredientService.saveIngredient(ingredient("Capacidad mantequilla", 1.0, 0.7));
+        Long productId = productService.saveProduct(
+                withLine(withLine(product("Capacidad galleta", 1.0, 0), sugar, 0.5), butter, 0.1)).getId();
+
+        ProductCapacity capacity = productCapacityService.getCapacity(productId).orElseThrow();
+        assertThat(capacity.getMaxUnits()).isEqualTo(7);
+        assertThat(capacity.getBottleneckIngredientId()).isEqualTo(butter.getId());
+    }
+}
@@ -0,0 +1,90 @@
+package com.inventory.service;
+
+import com.inventory.WebIntegrationTest;
+import com.inventory.entity.Ingredient;
+import com.inventory.entity.Product;
+import com.inventory.repository.IngredientRepository;
+import com.inventory.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.inventory.TestData.ingredient;
+import static com.inventory.TestData.product;
+import static com.inventory.TestData.withLine;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WebIntegrationTest
+class ProductionConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int REQUESTS = 200;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void concurrentProductionNeverOversellsOrLosesUpdates() throws Exception {
+        Ingredient scarce = ingredientService.saveIngredient(ingredient("Concurrencia escasa", 1.0, 50.0));
+        Ingredient plentiful = ingredientService.saveIngredient(ingredient("Concurrencia abundante", 1.0, 1000.0));
+        Product product = withLine(withLine(product("Concurrencia producto", 10.0, 0), scarce, 1.0), plentiful, 2.0);
+        Long productId = productService.saveProduct(product).getId();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<HttpStatus>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    ResponseEntity<String> response = restTemplate.postForEntity(
+                            "/api/products/{id}/produce", Map.of("units", 1), String.class, productId);
+                    return HttpStatus.valueOf(response.getStatusCode().value());
+                }));
+            }
+            start.countDown();
+
+            int ok = 0;
+            int conflicts = 0;
+            for (Future<HttpStatus> result : results) {
+                HttpStatus status = result.get();
+                if (status == HttpStatus.OK) {
+                    ok++;
+                } else if (status == HttpStatus.CONFLICT) {
+                    conflicts++;
+                }
+            }
+
+            assertThat(ok).isEqualTo(50);
+            assertThat(conflicts).isEqualTo(REQUESTS - 50);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ingredientRepository.findById(scarce.getId()).orElseThrow().getCurrentStock()).isEqualTo(0.0);
+        assertThat(ingredientRepository.findById(plentiful.getId()).orElseThrow().getCurrentStock()).isEqualTo(900.0);
+        assertThat(productRepository.findById(productId).orElseThrow().getStock()).isEqualTo(50);
+    }
+}
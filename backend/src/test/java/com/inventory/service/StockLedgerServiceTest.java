@@ -0,0 +1,88 @@
+package com.inventory.service;
+
+import com.inventory.IntegrationTest;
+import com.inventory.entity.StockMovement.ItemType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.inventory.TestData.ingredient;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class StockLedgerServiceTest {
+
+    @Autowired
+    private StockLedgerService stockLedgerService;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void movementCommittedAfterCheckpointIsNotLost() throws Exception {
+        Long id = ingredientService.saveIngredient(ingredient("Libro mayor azúcar", 1.0, 10.0)).getId();
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch checkpointed = new CountDownLatch(1);
+
+        CompletableFuture<Void> inFlight = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    ingredientService.consumeStock(id, 4.0);
+                    recorded.countDown();
+                    await(checkpointed);
+                }));
+        await(recorded);
+        stockLedgerService.checkpoint();
+        checkpointed.countDown();
+        inFlight.get(30, TimeUnit.SECONDS);
+
+        assertThat(stockLedgerService.getStockAt(ItemType.INGREDIENT, id, Instant.now()).getQuantity())
+                .isEqualTo(6.0);
+
+        stockLedgerService.checkpoint();
+
+        assertThat(stockLedgerService.getStockAt(ItemType.INGREDIENT, id, Instant.now()).getQuantity())
+                .isEqualTo(6.0);
+    }
+
+    @Test
+    void checkpointPrunesSnapshotsOutsideRetentionButKeepsLatestBaseline() {
+        long itemId = 987_654L;
+        Instant now = Instant.now();
+        for (int days : new int[]{200, 150, 10}) {
+            jdbcTemplate.update("INSERT INTO stock_snapshots (item_type, item_id, taken_at, quantity) VALUES (?, ?, ?, ?)",
+                    ItemType.PRODUCT.name(), itemId, Timestamp.from(now.minus(Duration.ofDays(days))), (double) days);
+        }
+
+        stockLedgerService.checkpoint();
+
+        List<Double> remaining = jdbcTemplate.queryForList(
+                "SELECT quantity FROM stock_snapshots WHERE item_type = ? AND item_id = ? ORDER BY taken_at",
+                Double.class, ItemType.PRODUCT.name(), itemId);
+        assertThat(remaining).containsExactly(150.0, 10.0);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 import { Component, OnInit } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
+import { Router } from '@angular/router';
 import { UserService } from '../../services/user.service';
+import { AuthService } from '../../services/auth.service';
 import { ToastService } from '../../services/toast.service';
 import { UserProfile, UpdateProfileRequest, ChangePasswordRequest } from '../../models/user.model';
 
@@ -236,6 +238,8 @@ export class ProfileComponent implements OnInit {
 
     constructor(
         private userService: UserService,
+        private authService: AuthService,
+        private router: Router,
         private toastService: ToastService
     ) { }
 
@@ -304,7 +308,9 @@ export class ProfileComponent implements OnInit {
             next: () => {
                 this.passwordForm = { currentPassword: '', newPassword: '' };
                 this.changingPassword = false;
-                this.toastService.success('Contraseña cambiada correctamente');
+                this.toastService.success('Contraseña cambiada correctamente, inicia sesión de nuevo');
+                this.authService.logout();
+                this.router.navigate(['/login']);
             },
             error: (err) => {
                 this.toastService.error(err.message || 'Error al cambiar contraseña');
@@ -1,6 +1,7 @@
 import { Injectable } from '@angular/core';
-import { HttpInterceptor, HttpRequest, HttpHandler, HttpEvent } from '@angular/common/http';
-import { Observable } from 'rxjs';
+import { HttpInterceptor, HttpRequest, HttpHandler, HttpEvent, HttpErrorResponse } from '@angular/common/http';
+import { Observable, of, throwError } from 'rxjs';
+import { catchError, switchMap } from 'rxjs/operators';
 import { AuthService } from '../services/auth.service';
 
 @Injectable()
@@ -9,17 +10,39 @@ export class AuthInterceptor implements HttpInterceptor {
   constructor(private authService: AuthService) {}
 
   intercept(req: HttpRequest<any>, next: HttpHandler): Observable<HttpEvent<any>> {
+    if (req.url.includes('/api/auth/')) {
+      return next.handle(req);
+    }
+
+    if (this.authService.getRefreshToken() && this.authService.isTokenExpiring()) {
+      return this.authService.refresh().pipe(
+        catchError(() => of(null)),
+        switchMap(() => next.handle(this.withToken(req)))
+      );
+    }
+
+    return next.handle(this.withToken(req)).pipe(
+      catchError((error: HttpErrorResponse) => {
+        if (error.status !== 401 || !this.authService.getRefreshToken()) {
+          return throwError(() => error);
+        }
+        return this.authService.refresh().pipe(
+          switchMap(() => next.handle(this.withToken(req))),
+          catchError(() => throwError(() => error))
+        );
+      })
+    );
+  }
+
+  private withToken(req: HttpRequest<any>): HttpRequest<any> {
     const token = this.authService.getToken();
     
     if (token) {
-      const cloned = req.clone({
+      return req.clone({
         headers: req.headers.set('Authorization', `Bearer ${token}`)
       });
-      return next.handle(cloned);
     }
     
-    return next.handle(req);
+    return req;
   }
 }
-
-
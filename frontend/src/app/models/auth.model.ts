@@ -13,6 +13,12 @@ export interface AuthResponse {
   token: string;
   type: string;
   username: string;
+  refreshToken: string;
+  expiresIn: number;
+}
+
+export interface RefreshTokenRequest {
+  refreshToken: string;
 }
 
 
@@ -22,3 +22,31 @@ export interface Product {
   calculatedCost?: number;
   profitMargin?: number;
 }
+
+export interface RecipeLineView {
+  ingredientId: number;
+  quantity: number;
+}
+
+export interface ProductListItem {
+  id: number;
+  name: string;
+  description?: string;
+  price: number;
+  stock: number;
+  calculatedCost?: number;
+  profitMargin?: number;
+  recipes: RecipeLineView[];
+}
+
+export interface IngredientReference {
+  id: number;
+  name: string;
+  unit: string;
+  costPrice: number;
+}
+
+export interface CatalogResponse {
+  products: ProductListItem[];
+  ingredients: IngredientReference[];
+}
@@ -1,8 +1,8 @@
 import { Injectable } from '@angular/core';
 import { HttpClient, HttpErrorResponse } from '@angular/common/http';
-import { Observable, throwError, BehaviorSubject } from 'rxjs';
-import { catchError, tap } from 'rxjs/operators';
-import { LoginRequest, RegisterRequest, AuthResponse } from '../models/auth.model';
+import { Observable, throwError, BehaviorSubject, of } from 'rxjs';
+import { catchError, finalize, shareReplay, tap } from 'rxjs/operators';
+import { LoginRequest, RegisterRequest, AuthResponse, RefreshTokenRequest } from '../models/auth.model';
 
 @Injectable({
   providedIn: 'root'
@@ -11,10 +11,19 @@ export class AuthService {
   private readonly apiUrl = 'https://inventory-app-27hd.onrender.com/api/auth';
   private readonly tokenKey = 'auth_token';
   private readonly usernameKey = 'auth_username';
+  private readonly refreshTokenKey = 'auth_refresh_token';
+  private readonly expiresAtKey = 'auth_expires_at';
+  private refreshInFlight: Observable<AuthResponse> | null = null;
   private authSubject = new BehaviorSubject<boolean>(this.isAuthenticated());
   public auth$ = this.authSubject.asObservable();
 
-  constructor(private http: HttpClient) {}
+  constructor(private http: HttpClient) {
+    window.addEventListener('storage', event => {
+      if (event.key === this.tokenKey || event.key === null) {
+        this.authSubject.next(this.isAuthenticated());
+      }
+    });
+  }
 
   login(request: LoginRequest): Observable<AuthResponse> {
     return this.http.post<AuthResponse>(`${this.apiUrl}/login`, request).pipe(
@@ -30,10 +39,35 @@ export class AuthService {
     );
   }
 
+  refresh(): Observable<AuthResponse> {
+    if (!this.refreshInFlight) {
+      const request: RefreshTokenRequest = { refreshToken: this.getRefreshToken() ?? '' };
+      this.refreshInFlight = this.http.post<AuthResponse>(`${this.apiUrl}/refresh`, request).pipe(
+        tap(response => this.setAuth(response)),
+        catchError((error: HttpErrorResponse) => {
+          const current = this.getRefreshToken();
+          if (current && current !== request.refreshToken) {
+            return of(this.storedAuth(current));
+          }
+          if (error.status === 401) {
+            this.clearAuth();
+          }
+          return this.handleError(error);
+        }),
+        finalize(() => this.refreshInFlight = null),
+        shareReplay(1)
+      );
+    }
+    return this.refreshInFlight;
+  }
+
   logout(): void {
-    localStorage.removeItem(this.tokenKey);
-    localStorage.removeItem(this.usernameKey);
-    this.authSubject.next(false);
+    const refreshToken = this.getRefreshToken();
+    if (refreshToken) {
+      const request: RefreshTokenRequest = { refreshToken };
+      this.http.post(`${this.apiUrl}/logout`, request, { responseType: 'text' }).subscribe({ error: () => {} });
+    }
+    this.clearAuth();
   }
 
   getToken(): string | null {
@@ -44,16 +78,46 @@ export class AuthService {
     return localStorage.getItem(this.usernameKey);
   }
 
+  getRefreshToken(): string | null {
+    return localStorage.getItem(this.refreshTokenKey);
+  }
+
   isAuthenticated(): boolean {
     return !!this.getToken();
   }
 
+  isTokenExpiring(marginMs = 30000): boolean {
+    const expiresAt = Number(localStorage.getItem(this.expiresAtKey));
+    return !!expiresAt && Date.now() + marginMs >= expiresAt;
+  }
+
   private setAuth(response: AuthResponse): void {
     localStorage.setItem(this.tokenKey, response.token);
     localStorage.setItem(this.usernameKey, response.username);
+    localStorage.setItem(this.refreshTokenKey, response.refreshToken);
+    localStorage.setItem(this.expiresAtKey, String(Date.now() + response.expiresIn * 1000));
     this.authSubject.next(true);
   }
 
+  private storedAuth(refreshToken: string): AuthResponse {
+    const expiresAt = Number(localStorage.getItem(this.expiresAtKey));
+    return {
+      token: this.getToken() ?? '',
+      type: 'Bearer',
+      username: this.getUsername() ?? '',
+      refreshToken,
+      expiresIn: Math.max(0, Math.floor((expiresAt - Date.now()) / 1000))
+    };
+  }
+
+  private clearAuth(): void {
+    localStorage.removeItem(this.tokenKey);
+    localStorage.removeItem(this.usernameKey);
+    localStorage.removeItem(this.refreshTokenKey);
+    localStorage.removeItem(this.expiresAtKey);
+    this.authSubject.next(false);
+  }
+
   private handleError(error: HttpErrorResponse): Observable<never> {
     let errorMessage = 'Error de autenticación';
     
@@ -1,8 +1,8 @@
 import { Injectable } from '@angular/core';
 import { HttpClient, HttpErrorResponse, HttpHeaders } from '@angular/common/http';
 import { Observable, throwError } from 'rxjs';
-import { catchError, retry } from 'rxjs/operators';
-import { Product } from '../models/product.model';
+import { catchError, map, retry } from 'rxjs/operators';
+import { CatalogResponse, Product } from '../models/product.model';
 import { AuthService } from './auth.service';
 
 @Injectable({
@@ -27,8 +27,9 @@ export class ProductService {
   }
 
   getAllProducts(): Observable<Product[]> {
-    return this.http.get<Product[]>(this.apiUrl, this.getHttpOptions()).pipe(
+    return this.http.get<CatalogResponse>(`${this.apiUrl}/catalog`, this.getHttpOptions()).pipe(
       retry(1),
+      map(catalog => this.toProducts(catalog)),
       catchError(this.handleError)
     );
   }
@@ -52,6 +53,26 @@ export class ProductService {
     );
   }
 
+  private toProducts(catalog: CatalogResponse): Product[] {
+    const ingredients = new Map(catalog.ingredients.map(ingredient => [ingredient.id, ingredient]));
+    return catalog.products.map(product => ({
+      ...product,
+      recipes: product.recipes.map(line => {
+        const ingredient = ingredients.get(line.ingredientId);
+        return {
+          quantity: line.quantity,
+          ingredient: {
+            id: line.ingredientId,
+            name: ingredient?.name ?? '',
+            unit: ingredient?.unit ?? '',
+            costPrice: ingredient?.costPrice ?? 0,
+            currentStock: 0
+          }
+        };
+      })
+    }));
+  }
+
   private handleError(error: HttpErrorResponse): Observable<never> {
     let errorMessage = 'Ha ocurrido un error inesperado';
     